@@ -30,6 +30,7 @@ import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.adapters.WorldAdapter;
 import org.geysermc.geyser.adapters.paper.PaperAdapters;
 import org.geysermc.geyser.adapters.spigot.SpigotAdapters;
@@ -55,7 +56,26 @@ public class GeyserSpigotNativeWorldManager extends GeyserSpigotWorldManager {
         if (player == null) {
             return Block.JAVA_AIR_ID;
         }
-        return adapter.getBlockAt(player.getWorld(), x, y, z);
+        return getBlockAt(player.getWorld(), x, y, z);
+    }
+
+    @Override
+    public void getBlocksAt(GeyserSession session, BlockPositionIterator iter, int[] blocks) {
+        Player player = Bukkit.getPlayer(session.getPlayerEntity().getUsername());
+        if (player == null) {
+            for (; iter.hasNext(); iter.next()) {
+                blocks[iter.getIteration()] = Block.JAVA_AIR_ID;
+            }
+            return;
+        }
+        World world = player.getWorld();
+        for (; iter.hasNext(); iter.next()) {
+            blocks[iter.getIteration()] = getBlockAt(world, iter.getX(), iter.getY(), iter.getZ());
+        }
+    }
+
+    protected int getBlockAt(World world, int x, int y, int z) {
+        return adapter.getBlockAt(world, x, y, z);
     }
 
     @Nullable
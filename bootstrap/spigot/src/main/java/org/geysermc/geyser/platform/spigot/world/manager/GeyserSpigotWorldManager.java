@@ -26,6 +26,10 @@
 package org.geysermc.geyser.platform.spigot.world.manager;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.block.Block;
@@ -38,14 +42,17 @@ import org.cloudburstmc.math.vector.Vector3i;
 import org.geysermc.erosion.bukkit.BukkitUtils;
 import org.geysermc.erosion.bukkit.PickBlockUtils;
 import org.geysermc.erosion.bukkit.SchedulerUtils;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.level.GameRule;
 import org.geysermc.geyser.level.WorldManager;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.util.MathUtils;
 import org.geysermc.mcprotocollib.protocol.data.game.entity.player.GameMode;
 import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -76,6 +83,80 @@ public class GeyserSpigotWorldManager extends WorldManager {
         return getBlockNetworkId(world.getBlockAt(x, y, z));
     }
 
+    @Override
+    public void getBlocksAt(GeyserSession session, BlockPositionIterator iter, int[] blocks) {
+        // Only look up the player once for the whole region, rather than for every block
+        Player bukkitPlayer;
+        if ((bukkitPlayer = Bukkit.getPlayer(session.getPlayerEntity().getUsername())) == null) {
+            for (; iter.hasNext(); iter.next()) {
+                blocks[iter.getIteration()] = org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID;
+            }
+            return;
+        }
+        World world = bukkitPlayer.getWorld();
+        if (SchedulerUtils.FOLIA) {
+            getBlocksAtFolia(world, iter, blocks);
+            return;
+        }
+
+        for (; iter.hasNext(); iter.next()) {
+            blocks[iter.getIteration()] = getBlockNetworkId(world, iter.getX(), iter.getY(), iter.getZ());
+        }
+    }
+
+    /**
+     * Reads the blocks of each chunk on the region that owns it, scheduling at most one task per chunk
+     * instead of one per block.
+     */
+    private void getBlocksAtFolia(World world, BlockPositionIterator iter, int[] blocks) {
+        // Chunk position -> (iteration, x, y, z) for every block in that chunk
+        Long2ObjectMap<IntList> blocksByChunk = new Long2ObjectOpenHashMap<>();
+        for (; iter.hasNext(); iter.next()) {
+            long chunkPosition = MathUtils.chunkPositionToLong(iter.getX() >> 4, iter.getZ() >> 4);
+            IntList positions = blocksByChunk.computeIfAbsent(chunkPosition, $ -> new IntArrayList());
+            positions.add(iter.getIteration());
+            positions.add(iter.getX());
+            positions.add(iter.getY());
+            positions.add(iter.getZ());
+        }
+
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (IntList positions : blocksByChunk.values()) {
+            int chunkX = positions.getInt(1) >> 4;
+            int chunkZ = positions.getInt(3) >> 4;
+            Runnable read = () -> {
+                for (int i = 0; i < positions.size(); i += 4) {
+                    blocks[positions.getInt(i)] = getBlockNetworkId(world, positions.getInt(i + 1), positions.getInt(i + 2), positions.getInt(i + 3));
+                }
+            };
+            if (Bukkit.isOwnedByCurrentRegion(world, chunkX, chunkZ)) {
+                read.run();
+            } else {
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                Bukkit.getRegionScheduler().execute(this.plugin, world, chunkX, chunkZ, () -> {
+                    try {
+                        read.run();
+                        future.complete(null);
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                });
+                pending.add(future);
+            }
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * Must be called from a thread that may access this block.
+     */
+    private int getBlockNetworkId(World world, int x, int y, int z) {
+        if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+            return org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID;
+        }
+        return BlockRegistries.JAVA_IDENTIFIER_TO_ID.getOrDefault(world.getBlockAt(x, y, z).getBlockData().getAsString(), org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID);
+    }
+
     public int getBlockNetworkId(Block block) {
         if (SchedulerUtils.FOLIA && !Bukkit.isOwnedByCurrentRegion(block)) {
             // Terrible behavior, but this is basically what's always been happening behind the scenes anyway.
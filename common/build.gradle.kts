@@ -5,6 +5,9 @@ plugins {
 dependencies {
     api(libs.cumulus)
     api(libs.gson)
+
+    // Test
+    testImplementation(libs.junit)
 }
 
 indra {
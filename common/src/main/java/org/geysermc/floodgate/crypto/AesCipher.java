@@ -26,12 +26,14 @@
 package org.geysermc.floodgate.crypto;
 
 import lombok.RequiredArgsConstructor;
+import org.geysermc.floodgate.util.InvalidFormatException;
 
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.security.SecureRandom;
 
@@ -40,6 +42,17 @@ public final class AesCipher implements FloodgateCipher {
     public static final int IV_LENGTH = 12;
     private static final int TAG_BIT_LENGTH = 128;
     private static final String CIPHER_NAME = "AES/GCM/NoPadding";
+    /**
+     * Cipher.getInstance goes through the provider lookup every time, which contends when many players join at once.
+     * A Cipher isn't thread-safe, but it can be re-initialized and reused, so every thread keeps its own.
+     */
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(CIPHER_NAME);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unable to create " + CIPHER_NAME + " cipher", exception);
+        }
+    });
 
     private final SecureRandom secureRandom = new SecureRandom();
     private final Topping topping;
@@ -55,20 +68,28 @@ public final class AesCipher implements FloodgateCipher {
     }
 
     public byte[] encrypt(byte[] data) throws Exception {
-        Cipher cipher = Cipher.getInstance(CIPHER_NAME);
+        Cipher cipher = CIPHER.get();
 
         byte[] iv = new byte[IV_LENGTH];
         secureRandom.nextBytes(iv);
 
         GCMParameterSpec spec = new GCMParameterSpec(TAG_BIT_LENGTH, iv);
         cipher.init(Cipher.ENCRYPT_MODE, secretKey, spec);
-        byte[] cipherText = cipher.doFinal(data);
 
-        if (topping != null) {
-            iv = topping.encode(iv);
-            cipherText = topping.encode(cipherText);
+        if (topping == null) {
+            // Without a topping, the cipher text can be written straight into the result
+            int cipherTextOffset = HEADER.length + IV_LENGTH + 1;
+            byte[] result = new byte[cipherTextOffset + cipher.getOutputSize(data.length)];
+            System.arraycopy(HEADER, 0, result, 0, HEADER.length);
+            System.arraycopy(iv, 0, result, HEADER.length, IV_LENGTH);
+            result[HEADER.length + IV_LENGTH] = 0x21;
+            cipher.doFinal(data, 0, data.length, result, cipherTextOffset);
+            return result;
         }
 
+        iv = topping.encode(iv);
+        byte[] cipherText = topping.encode(cipher.doFinal(data));
+
         return ByteBuffer.allocate(HEADER.length + iv.length + cipherText.length + 1)
                 .put(HEADER)
                 .put(iv)
@@ -80,29 +101,40 @@ public final class AesCipher implements FloodgateCipher {
     public byte[] decrypt(byte[] cipherTextWithIv) throws Exception {
         checkHeader(cipherTextWithIv);
 
-        Cipher cipher = Cipher.getInstance(CIPHER_NAME);
+        Cipher cipher = CIPHER.get();
+
+        if (topping == null) {
+            // The IV and cipher text can be read in-place, since they don't have to be decoded first
+            int cipherTextOffset = HEADER.length + IV_LENGTH + 1; // skip splitter
+            if (cipherTextWithIv.length < cipherTextOffset) {
+                throw new InvalidFormatException(
+                        "Data length is smaller than header and IV. " +
+                        "Needed " + cipherTextOffset + ", got " + cipherTextWithIv.length
+                );
+            }
+
+            GCMParameterSpec spec = new GCMParameterSpec(TAG_BIT_LENGTH, cipherTextWithIv, HEADER.length, IV_LENGTH);
+            cipher.init(Cipher.DECRYPT_MODE, secretKey, spec);
+            return cipher.doFinal(cipherTextWithIv, cipherTextOffset, cipherTextWithIv.length - cipherTextOffset);
+        }
 
         int bufferLength = cipherTextWithIv.length - HEADER.length;
         ByteBuffer buffer = ByteBuffer.wrap(cipherTextWithIv, HEADER.length, bufferLength);
 
-        int ivLength = IV_LENGTH;
+        int mark = buffer.position();
 
-        if (topping != null) {
-            int mark = buffer.position();
-
-            // we need the first index, the second is for the actual data
-            boolean found = false;
-            while (buffer.hasRemaining() && !found) {
-                if (buffer.get() == 0x21) {
-                    found = true;
-                }
+        // we need the first index, the second is for the actual data
+        boolean found = false;
+        while (buffer.hasRemaining() && !found) {
+            if (buffer.get() == 0x21) {
+                found = true;
             }
-
-            ivLength = buffer.position() - mark - 1; // don't include the splitter itself
-            // don't remove this cast, it'll cause problems if you remove it
-            ((Buffer) buffer).position(mark); // reset to the pre-while index
         }
 
+        int ivLength = buffer.position() - mark - 1; // don't include the splitter itself
+        // don't remove this cast, it'll cause problems if you remove it
+        ((Buffer) buffer).position(mark); // reset to the pre-while index
+
         byte[] iv = new byte[ivLength];
         buffer.get(iv);
 
@@ -112,10 +144,8 @@ public final class AesCipher implements FloodgateCipher {
         byte[] cipherText = new byte[buffer.remaining()];
         buffer.get(cipherText);
 
-        if (topping != null) {
-            iv = topping.decode(iv);
-            cipherText = topping.decode(cipherText);
-        }
+        iv = topping.decode(iv);
+        cipherText = topping.decode(cipherText);
 
         GCMParameterSpec spec = new GCMParameterSpec(TAG_BIT_LENGTH, iv);
         cipher.init(Cipher.DECRYPT_MODE, secretKey, spec);
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.floodgate.crypto;
+
+import org.geysermc.floodgate.util.InvalidFormatException;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AesCipherTest {
+    private static final byte[] DATA = "Floodgate player data\0with a null byte".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        AesCipher cipher = cipher(null);
+        byte[] encrypted = cipher.encrypt(DATA);
+        assertArrayEquals(DATA, cipher.decrypt(encrypted));
+        // Each message gets its own IV
+        assertFalse(Arrays.equals(encrypted, cipher.encrypt(DATA)));
+    }
+
+    @Test
+    public void testRoundTripWithTopping() throws Exception {
+        AesCipher cipher = cipher(new Base64Topping());
+        assertArrayEquals(DATA, cipher.decrypt(cipher.encrypt(DATA)));
+    }
+
+    @Test
+    public void testEmptyData() throws Exception {
+        AesCipher cipher = cipher(null);
+        assertArrayEquals(new byte[0], cipher.decrypt(cipher.encrypt(new byte[0])));
+    }
+
+    @Test
+    public void testFormatWithoutTopping() throws Exception {
+        byte[] encrypted = cipher(null).encrypt(DATA);
+        // Header, IV, splitter, then the cipher text with its 16 byte tag
+        assertArrayEquals(FloodgateCipher.HEADER, Arrays.copyOf(encrypted, FloodgateCipher.HEADER.length));
+        assertEquals(0x21, encrypted[FloodgateCipher.HEADER.length + AesCipher.IV_LENGTH]);
+        assertEquals(FloodgateCipher.HEADER.length + AesCipher.IV_LENGTH + 1 + DATA.length + 16, encrypted.length);
+    }
+
+    @Test
+    public void testCiphersAcrossThreads() throws Exception {
+        SecretKey key = new AesKeyProducer().produce();
+        AesCipher encrypting = new AesCipher(null);
+        encrypting.init(key);
+        byte[] encrypted = encrypting.encrypt(DATA);
+
+        AesCipher decrypting = new AesCipher(null);
+        decrypting.init(key);
+        byte[][] decrypted = new byte[1][];
+        Thread thread = new Thread(() -> {
+            try {
+                decrypted[0] = decrypting.decrypt(encrypted);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        thread.start();
+        thread.join();
+        assertArrayEquals(DATA, decrypted[0]);
+    }
+
+    @Test
+    public void testTamperedData() throws Exception {
+        AesCipher cipher = cipher(null);
+        byte[] encrypted = cipher.encrypt(DATA);
+        encrypted[encrypted.length - 1] ^= 1;
+        assertThrows(Exception.class, () -> cipher.decrypt(encrypted));
+    }
+
+    @Test
+    public void testTooShort() throws Exception {
+        AesCipher cipher = cipher(null);
+        byte[] encrypted = cipher.encrypt(DATA);
+        assertThrows(InvalidFormatException.class, () -> cipher.decrypt(Arrays.copyOf(encrypted, FloodgateCipher.HEADER.length + 4)));
+    }
+
+    private static AesCipher cipher(Topping topping) {
+        AesCipher cipher = new AesCipher(topping);
+        cipher.init(new AesKeyProducer().produce());
+        return cipher;
+    }
+}
@@ -82,7 +82,6 @@ import org.geysermc.geyser.network.netty.GeyserServer;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.provider.ProviderSupplier;
-import org.geysermc.geyser.scoreboard.ScoreboardUpdater;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.PendingMicrosoftAuthentication;
 import org.geysermc.geyser.session.SessionManager;
@@ -124,6 +123,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -232,14 +232,19 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         logger.info("******************************************");
 
         /* Initialize registries */
+        long phaseStart = System.nanoTime();
         Registries.init();
+        phaseStart = logStartupPhase(logger, "Registries", phaseStart);
         BlockRegistries.init();
+        phaseStart = logStartupPhase(logger, "Block registries", phaseStart);
 
         RegistryCache.init();
+        phaseStart = logStartupPhase(logger, "Registry cache", phaseStart);
 
         /* Initialize translators */
         EntityDefinitions.init();
         MessageTranslator.init();
+        phaseStart = logStartupPhase(logger, "Translators", phaseStart);
 
         // Download the latest asset list and cache it
         AssetUtils.generateAssetCache().whenComplete((aVoid, ex) -> {
@@ -263,6 +268,7 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         eventBus.subscribe(this, GeyserRegisterPermissionsEvent.class, Permissions::register);
 
         startInstance();
+        logStartupPhase(logger, "Start instance", phaseStart);
 
         GeyserConfiguration config = bootstrap.getGeyserConfig();
 
@@ -283,6 +289,17 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         VersionCheckUtils.checkForOutdatedJava(logger);
     }
 
+    /**
+     * Logs how long a part of startup took in debug mode.
+     *
+     * @return the current time, to be used as the start of the next phase
+     */
+    private long logStartupPhase(GeyserLogger logger, String phase, long phaseStart) {
+        long now = System.nanoTime();
+        logger.debug("Startup phase '%s' took %d ms".formatted(phase, TimeUnit.NANOSECONDS.toMillis(now - phaseStart)));
+        return now;
+    }
+
     private void startInstance() {
         this.scheduledThread = Executors.newSingleThreadScheduledExecutor(new DefaultThreadFactory("Geyser Scheduled Thread"));
 
@@ -293,8 +310,6 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         GeyserLogger logger = bootstrap.getGeyserLogger();
         GeyserConfiguration config = bootstrap.getGeyserConfig();
 
-        ScoreboardUpdater.init();
-
         SkinProvider.registerCacheImageTask(this);
 
         Registries.RESOURCE_PACKS.load();
@@ -170,6 +170,8 @@ public interface GeyserConfiguration {
 
     int getScoreboardPacketThreshold();
 
+    int getMaxParticlesPerTick();
+
     // if u have offline mode enabled pls be safe
     boolean isEnableProxyConnections();
 
@@ -326,6 +326,9 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
     @JsonProperty("scoreboard-packet-threshold")
     private int scoreboardPacketThreshold = 10;
 
+    @JsonProperty("max-particles-per-tick")
+    private int maxParticlesPerTick = 500;
+
     @JsonProperty("enable-proxy-connections")
     private boolean enableProxyConnections = false;
 
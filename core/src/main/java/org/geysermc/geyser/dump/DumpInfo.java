@@ -43,6 +43,8 @@ import org.geysermc.geyser.api.extension.Extension;
 import org.geysermc.geyser.configuration.GeyserConfiguration;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ParticleBudget;
+import org.geysermc.geyser.skin.SkinProvider;
 import org.geysermc.geyser.text.AsteriskSerializer;
 import org.geysermc.geyser.util.CpuUtils;
 import org.geysermc.geyser.util.FileUtils;
@@ -76,6 +78,8 @@ public class DumpInfo {
     private final int connectionAttempts;
     private final HashInfo hashInfo;
     private final RamInfo ramInfo;
+    private final SkinThreadInfo skinThreadInfo;
+    private final ParticleInfo particleInfo;
     private LogsInfo logsInfo;
     private final BootstrapDumpInfo bootstrapInfo;
     private final FlagsInfo flagsInfo;
@@ -114,16 +118,26 @@ public class DumpInfo {
         this.hashInfo = new HashInfo(md5Hash, sha256Hash);
 
         this.ramInfo = new RamInfo();
+        this.skinThreadInfo = new SkinThreadInfo(SkinProvider.getActiveTaskCount(), SkinProvider.getQueuedTaskCount());
 
         if (addLog) {
             this.logsInfo = new LogsInfo(geyser);
         }
 
         this.userPlatforms = new Object2IntOpenHashMap<>();
+        long particlesDropped = 0;
+        long particlesCulled = 0;
+        long particlesMerged = 0;
         for (GeyserSession session : geyser.getSessionManager().getAllSessions()) {
             DeviceOs device = session.getClientData().getDeviceOs();
             userPlatforms.put(device, userPlatforms.getOrDefault(device, 0) + 1);
+
+            ParticleBudget particleBudget = session.getParticleBudget();
+            particlesDropped += particleBudget.getDropped();
+            particlesCulled += particleBudget.getCulled();
+            particlesMerged += particleBudget.getMerged();
         }
+        this.particleInfo = new ParticleInfo(particlesDropped, particlesCulled, particlesMerged);
 
         if (geyser.getGeyserServer() != null) {
             this.connectionAttempts = geyser.getGeyserServer().getConnectionAttempts();
@@ -271,6 +285,15 @@ public class DumpInfo {
         }
     }
 
+    public record SkinThreadInfo(int activeTasks, int queuedTasks) {
+    }
+
+    /**
+     * Particles that weren't sent, summed over all online sessions
+     */
+    public record ParticleInfo(long dropped, long culled, long merged) {
+    }
+
     /**
      * E.G. `-Xmx1024M` - all runtime JVM flags on this machine
      */
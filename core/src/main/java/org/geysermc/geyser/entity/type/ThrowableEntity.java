@@ -59,9 +59,16 @@ public class ThrowableEntity extends Entity implements Tickable {
             return;
         }
         moveAbsoluteImmediate(position.add(motion), getYaw(), getPitch(), getHeadYaw(), isOnGround(), false);
-        float drag = getDrag();
-        float gravity = getGravity();
-        motion = motion.mul(drag).down(gravity);
+        motion = nextMotion(motion, getDrag(), getGravity());
+    }
+
+    /**
+     * Same as the Java server: drag is applied before gravity, and the entity moves by its motion from before both.
+     *
+     * @return the motion for the next tick
+     */
+    static Vector3f nextMotion(Vector3f motion, float drag, float gravity) {
+        return motion.mul(drag).down(gravity);
     }
 
     protected void moveAbsoluteImmediate(Vector3f position, float yaw, float pitch, float headYaw, boolean isOnGround, boolean teleported) {
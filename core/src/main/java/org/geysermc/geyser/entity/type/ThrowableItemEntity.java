@@ -38,6 +38,12 @@ import java.util.UUID;
  * Used as a class for any projectile entity that looks like an item
  */
 public class ThrowableItemEntity extends ThrowableEntity {
+    /**
+     * How far the server's position of this projectile may be from ours, on top of one tick's worth of travel,
+     * before we move the Bedrock client to it.
+     */
+    private static final float CORRECTION_THRESHOLD = 0.25f;
+
     /**
      * Number of ticks since the entity was spawned by the Java server
      */
@@ -73,6 +79,31 @@ public class ThrowableItemEntity extends ThrowableEntity {
         super.tick();
     }
 
+    /**
+     * Thrown items follow a fixed path that we already simulate every tick, so the server's own position updates
+     * only need to be forwarded once they no longer match - for example, after hitting something.
+     */
+    @Override
+    public void moveRelative(double relX, double relY, double relZ, float yaw, float pitch, float headYaw, boolean isOnGround) {
+        Vector3f javaPosition = lastJavaPosition.add(relX, relY, relZ);
+        if (isOnGround == isOnGround() && matchesSimulation(javaPosition, position, motion)) {
+            lastJavaPosition = javaPosition;
+            // Still keep the rotation up-to-date
+            moveAbsoluteImmediate(position, yaw, pitch, headYaw, isOnGround, false);
+            return;
+        }
+        super.moveRelative(relX, relY, relZ, yaw, pitch, headYaw, isOnGround);
+    }
+
+    /**
+     * @return if the server's position is close enough to our simulated position that it doesn't need to be sent
+     */
+    static boolean matchesSimulation(Vector3f javaPosition, Vector3f position, Vector3f motion) {
+        // Our ticks aren't in sync with the server's, so we can be up to a tick ahead or behind
+        float threshold = CORRECTION_THRESHOLD + motion.length();
+        return javaPosition.distanceSquared(position) <= threshold * threshold;
+    }
+
     @Override
     protected void setInvisible(boolean value) {
         invisible = value;
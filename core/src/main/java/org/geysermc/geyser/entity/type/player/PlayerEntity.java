@@ -72,6 +72,7 @@ import org.geysermc.mcprotocollib.protocol.data.game.scoreboard.TeamColor;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -119,6 +120,14 @@ public class PlayerEntity extends LivingEntity implements GeyserPlayerEntity {
         this.texturesProperty = texturesProperty;
     }
 
+    public void setUsername(String username) {
+        String oldUsername = this.username;
+        this.username = username;
+        if (!Objects.equals(oldUsername, username)) {
+            session.getEntityCache().updatePlayerUsername(this, oldUsername);
+        }
+    }
+
     @Override
     protected void initializeMetadata() {
         super.initializeMetadata();
@@ -81,6 +81,17 @@ public class GeyserWorldManager extends WorldManager {
         return future.join();
     }
 
+    @Override
+    public void getBlocksAt(GeyserSession session, BlockPositionIterator iter, int[] blocks) {
+        var erosionHandler = session.getErosionHandler().getAsActive();
+        if (erosionHandler == null) {
+            session.getChunkCache().getBlocksAt(iter, blocks);
+            return;
+        }
+        int[] result = getBlocksAt(session, iter);
+        System.arraycopy(result, 0, blocks, 0, result.length);
+    }
+
     @Override
     public boolean hasOwnChunkCache() {
         // This implementation can only fetch data from the session chunk cache
@@ -101,11 +101,19 @@ public abstract class WorldManager {
 
     public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter) {
         int[] blocks = new int[iter.getMaxIterations()];
+        getBlocksAt(session, iter, blocks);
+        return blocks;
+    }
+
+    /**
+     * Same as {@link #getBlocksAt(GeyserSession, BlockPositionIterator)}, but fills an existing array
+     * that must be at least {@link BlockPositionIterator#getMaxIterations()} long.
+     */
+    public void getBlocksAt(GeyserSession session, BlockPositionIterator iter, int[] blocks) {
         for (; iter.hasNext(); iter.next()) {
             int networkId = this.getBlockAt(session, iter.getX(), iter.getY(), iter.getZ());
             blocks[iter.getIteration()] = networkId;
         }
-        return blocks;
     }
 
     /**
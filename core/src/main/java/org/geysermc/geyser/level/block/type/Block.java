@@ -72,6 +72,10 @@ public class Block {
      * Used for switching a given block state to different states.
      */
     private final Property<?>[] propertyKeys;
+    /**
+     * Null if this block only has one state.
+     */
+    private final @Nullable PropertyLayout propertyLayout;
     private final BlockState defaultState;
 
     public Block(@Subst("empty") String javaIdentifier, Builder builder) {
@@ -84,6 +88,11 @@ public class Block {
 
         BlockState firstState = builder.build(this).get(0);
         this.propertyKeys = builder.propertyKeys; // Ensure this is not null before iterating over states
+        if (this.propertyKeys == null) {
+            this.propertyLayout = null;
+        } else {
+            this.propertyLayout = new PropertyLayout(this.propertyKeys, List.copyOf(builder.states.values()), firstState.javaId());
+        }
         this.defaultState = setDefaultState(firstState);
     }
 
@@ -227,6 +236,20 @@ public class Block {
         return propertyKeys;
     }
 
+    /**
+     * @return the index of this property in {@link #propertyKeys()}, or -1 if this block doesn't have it.
+     */
+    int propertyIndex(Property<?> property) {
+        if (this.propertyLayout == null) {
+            return -1;
+        }
+        return this.propertyLayout.index(property);
+    }
+
+    PropertyLayout propertyLayout() {
+        return this.propertyLayout;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -77,76 +77,36 @@ public final class BlockState {
 
     @Nullable
     private Comparable<?> get(Property<?> property) {
-        Property<?>[] keys = this.block.propertyKeys();
-        if (keys == null) {
+        int index = this.block.propertyIndex(property);
+        if (index == -1) {
             return null;
         }
-        // We're copying the behavior Reference2ObjectArrayMap uses
-        for (int i = keys.length; i-- != 0;) {
-            if (keys[i] == property) {
-                return this.states[i];
-            }
-        }
-        return null;
+        return this.states[index];
     }
 
     /**
      * @return the {@link BlockState} instance with the given value.
      */
     public <T extends Comparable<T>> BlockState withValue(Property<T> property, T value) {
-        Property<?>[] keys = this.block.propertyKeys();
-        if (keys == null) {
+        if (this.states == null) {
             throw new IllegalStateException(this + " does not have any different states!");
         }
 
-        T currentValue = getValue(property);
-        if (currentValue == null) {
+        int index = this.block.propertyIndex(property);
+        if (index == -1) {
             throw new IllegalArgumentException("This BlockState does not have the property " + property);
         }
-        if (currentValue.equals(value)) {
-            // No action required. This block state is the state we're looking for.
-            return this;
-        }
 
-        // Diff is how much we will have to traverse as a sort of offset
-
-        // Block states are calculated in a predictable structure:
-        // minecraft:cobblestone_wall[east=none,north=none,south=none,up=true,waterlogged=true,west=none]
-        // minecraft:cobblestone_wall[east=none,north=none,south=none,up=true,waterlogged=true,west=low]
-        // minecraft:cobblestone_wall[east=none,north=none,south=none,up=true,waterlogged=true,west=tall]
-        // minecraft:cobblestone_wall[east=none,north=none,south=none,up=true,waterlogged=false,west=none]
-        // minecraft:cobblestone_wall[east=none,north=none,south=none,up=true,waterlogged=false,west=low]
-        // minecraft:cobblestone_wall[east=none,north=none,south=none,up=true,waterlogged=false,west=tall]
-        // minecraft:cobblestone_wall[east=none,north=none,south=none,up=false,waterlogged=true,west=none]
-
-        // The last value goes through all its iterations, then the next state goes through all its iterations.
-        // West goes none -> low -> tall, then waterlogged is toggled as west cycles again.
-        // Then when waterlogged goes through all its properties, up is toggled, and west goes through again
-        // If we want to find the "up" property in order, then we need to find how many iterations each property
-        // after it goes in. West goes for 3, waterlogged goes for 2. Adding those together, we find that we need to
-        // add five to get to the next toggle of the up property
-        int diff = 0;
-        for (int i = keys.length - 1; i >= 0; i--) {
-            if (keys[i] != property) {
-                diff += keys[i].valuesCount();
-            } else {
-                break;
-            }
+        // See PropertyLayout for how block states are laid out
+        int javaId = this.block.propertyLayout().withValue(this.javaId, index, value);
+        if (javaId == -1) {
+            throw new IllegalArgumentException("Property " + property + " does not have value " + value + " for " + this.block);
         }
-
-        // How many times do we have to jump by diff? This depends on how far away each value is from each other.
-        // piston_head[facing=north] might be right next to piston_head[facing=south], which just one diff'd hop.
-        // But piston_head[facing=west] is further away, requiring more hops.
-        int thatOffset = property.indexOf(value);
-        int thisOffset = property.indexOf(currentValue);
-        if (diff == 0) {
-            // This can happen if the property is at the tail end of the block and there are no other properties to look through
-            // If we have minecraft:cobblestone_wall[east=none,north=none,south=none,up=true,waterlogged=true,west=none]
-            // And want minecraft:cobblestone_wall[east=none,north=none,south=none,up=true,waterlogged=true,west=low]
-            // The above for loop will always stop at the first break because the last property has already been found
-            diff = 1;
+        if (javaId == this.javaId) {
+            // No action required. This block state is the state we're looking for.
+            return this;
         }
-        return of(this.javaId + ((thatOffset - thisOffset) * diff));
+        return of(javaId);
     }
 
     public Block block() {
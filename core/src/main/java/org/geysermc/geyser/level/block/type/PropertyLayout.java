@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.block.type;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.geysermc.geyser.level.block.property.Property;
+
+import java.util.List;
+
+/**
+ * Where the values of each property sit within a block's range of Java state IDs.
+ * <p>
+ * Block states are calculated in a predictable structure:
+ * minecraft:cobblestone_wall[east=none,north=none,south=none,up=true,waterlogged=true,west=none]
+ * minecraft:cobblestone_wall[east=none,north=none,south=none,up=true,waterlogged=true,west=low]
+ * minecraft:cobblestone_wall[east=none,north=none,south=none,up=true,waterlogged=true,west=tall]
+ * minecraft:cobblestone_wall[east=none,north=none,south=none,up=true,waterlogged=false,west=none]
+ * ...
+ * The last value goes through all its iterations, then the next state goes through all its iterations.
+ * So each property has a fixed stride - west is 1, waterlogged is 3, up is 3 * 2 - and moving from one value
+ * to another is a single multiplication.
+ */
+final class PropertyLayout {
+    private final Property<?>[] keys;
+    /**
+     * For each entry in {@link #keys}, how far apart two neighbouring values of that property are in Java IDs.
+     */
+    private final int[] strides;
+    /**
+     * For each entry in {@link #keys}, the position of every value in this block's own value list.
+     */
+    private final Object2IntMap<Comparable<?>>[] valueIndices;
+    private final int firstStateId;
+
+    /**
+     * @param keys the properties of the block, in the order the block was built with
+     * @param values the values of each property, in the same order as the keys
+     * @param firstStateId the Java ID of the block's first state
+     */
+    PropertyLayout(Property<?>[] keys, List<List<Comparable<?>>> values, int firstStateId) {
+        this.keys = keys;
+        this.firstStateId = firstStateId;
+        this.strides = new int[values.size()];
+        //noinspection unchecked
+        this.valueIndices = new Object2IntMap[values.size()];
+        int stride = 1;
+        for (int i = values.size() - 1; i >= 0; i--) {
+            this.strides[i] = stride;
+            List<Comparable<?>> propertyValues = values.get(i);
+            Object2IntMap<Comparable<?>> indices = new Object2IntOpenHashMap<>(propertyValues.size());
+            indices.defaultReturnValue(-1);
+            for (int j = 0; j < propertyValues.size(); j++) {
+                indices.put(propertyValues.get(j), j);
+            }
+            this.valueIndices[i] = indices;
+            stride *= propertyValues.size();
+        }
+    }
+
+    /**
+     * @return the index of this property in the block's property keys, or -1 if the block doesn't have it.
+     */
+    int index(Property<?> property) {
+        // Blocks have a handful of properties at most, so a reference scan beats any hashing
+        for (int i = keys.length; i-- != 0;) {
+            if (keys[i] == property) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the Java ID of the state with the given property set to this value, and everything else the same
+     * as the given state; or -1 if this isn't one of the property's values.
+     */
+    int withValue(int javaId, int index, Comparable<?> value) {
+        int thatOffset = this.valueIndices[index].getInt(value);
+        if (thatOffset == -1) {
+            return -1;
+        }
+        int thisOffset = ((javaId - this.firstStateId) / this.strides[index]) % this.valueIndices[index].size();
+        return javaId + (thatOffset - thisOffset) * this.strides[index];
+    }
+}
@@ -43,4 +43,15 @@ public enum Axis {
             case Z -> vector.getZ();
         };
     }
+
+    /**
+     * @return the component in this axis
+     */
+    public double choose(double x, double y, double z) {
+        return switch (this) {
+            case X -> x;
+            case Y -> y;
+            case Z -> z;
+        };
+    }
 }
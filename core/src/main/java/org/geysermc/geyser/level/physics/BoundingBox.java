@@ -77,6 +77,19 @@ public class BoundingBox implements Cloneable {
         expand(expand, expand, expand);
     }
 
+    /**
+     * Sets the position and size of this bounding box to that of another, without allocating a clone.
+     */
+    public void copyFrom(BoundingBox other) {
+        middleX = other.middleX;
+        middleY = other.middleY;
+        middleZ = other.middleZ;
+
+        sizeX = other.sizeX;
+        sizeY = other.sizeY;
+        sizeZ = other.sizeZ;
+    }
+
     public boolean checkIntersection(double offsetX, double offsetY, double offsetZ, BoundingBox otherBox) {
         return (Math.abs((middleX + offsetX) - otherBox.getMiddleX()) * 2 < (sizeX + otherBox.getSizeX())) &&
                 (Math.abs((middleY + offsetY) - otherBox.getMiddleY()) * 2 < (sizeY + otherBox.getSizeY())) &&
@@ -148,14 +161,14 @@ public class BoundingBox implements Cloneable {
             }
         }
         if (offset > 0) {
-            double min = axis.choose(getMin().add(xOffset, yOffset, zOffset));
-            double max = axis.choose(otherBoundingBox.getMax());
+            double min = getMin(axis) + axis.choose(xOffset, yOffset, zOffset);
+            double max = otherBoundingBox.getMax(axis);
             if ((min - max) >= -2.0 * CollisionManager.COLLISION_TOLERANCE) {
                 offset = Math.min(min - max, offset);
             }
         } else if (offset < 0) {
-            double min = axis.choose(otherBoundingBox.getMin());
-            double max = axis.choose(getMax().add(xOffset, yOffset, zOffset));
+            double min = otherBoundingBox.getMin(axis);
+            double max = getMax(axis) + axis.choose(xOffset, yOffset, zOffset);
             if ((min - max) >= -2.0 * CollisionManager.COLLISION_TOLERANCE) {
                 offset = Math.max(max - min, offset);
             }
@@ -172,12 +185,12 @@ public class BoundingBox implements Cloneable {
      */
     public double getIntersectionSize(BoundingBox otherBoundingBox, Direction side) {
         return switch (side) {
-            case DOWN -> getMax().getY() - otherBoundingBox.getMin().getY();
-            case UP -> otherBoundingBox.getMax().getY() - getMin().getY();
-            case NORTH -> getMax().getZ() - otherBoundingBox.getMin().getZ();
-            case SOUTH -> otherBoundingBox.getMax().getZ() - getMin().getZ();
-            case WEST -> getMax().getX() - otherBoundingBox.getMin().getX();
-            case EAST -> otherBoundingBox.getMax().getX() - getMin().getX();
+            case DOWN -> getMax(Axis.Y) - otherBoundingBox.getMin(Axis.Y);
+            case UP -> otherBoundingBox.getMax(Axis.Y) - getMin(Axis.Y);
+            case NORTH -> getMax(Axis.Z) - otherBoundingBox.getMin(Axis.Z);
+            case SOUTH -> otherBoundingBox.getMax(Axis.Z) - getMin(Axis.Z);
+            case WEST -> getMax(Axis.X) - otherBoundingBox.getMin(Axis.X);
+            case EAST -> otherBoundingBox.getMax(Axis.X) - getMin(Axis.X);
         };
     }
 
@@ -95,6 +95,13 @@ public class CollisionManager {
      */
     private static final double INCORRECT_MOVEMENT_THRESHOLD = 0.08;
 
+    /*
+     * Scratch state for movement correction, which runs for every movement packet and every tick of a client vehicle.
+     */
+    private final BoundingBox movementBoundingBox = new BoundingBox(0, 0, 0, 0, 0, 0);
+    private final BoundingBox stepUpBoundingBox = new BoundingBox(0, 0, 0, 0, 0, 0);
+    private int[] movementBlocks = new int[0];
+
     public CollisionManager(GeyserSession session) {
         this.session = session;
         this.playerBoundingBox = new BoundingBox(0, 0, 0, 0.6, 1.8, 0.6);
@@ -304,7 +311,7 @@ public class CollisionManager {
     public Vector3d correctMovement(Vector3d movement, BoundingBox boundingBox, boolean onGround, double stepUp, boolean checkWorld, boolean walkOnLava) {
         Vector3d adjustedMovement = movement;
         if (!movement.equals(Vector3d.ZERO)) {
-            adjustedMovement = correctMovementForCollisions(movement, boundingBox, checkWorld, walkOnLava);
+            adjustedMovement = correctMovementForCollisions(movement.getX(), movement.getY(), movement.getZ(), boundingBox, checkWorld, walkOnLava);
         }
 
         boolean verticalCollision = adjustedMovement.getY() != movement.getY();
@@ -312,28 +319,29 @@ public class CollisionManager {
         boolean falling = movement.getY() < 0;
         onGround = onGround || (verticalCollision && falling);
         if (onGround && horizontalCollision) {
-            Vector3d horizontalMovement = Vector3d.from(movement.getX(), 0, movement.getZ());
-            Vector3d stepUpMovement = correctMovementForCollisions(horizontalMovement.up(stepUp), boundingBox, checkWorld, walkOnLava);
+            double movementX = movement.getX();
+            double movementZ = movement.getZ();
+            Vector3d stepUpMovement = correctMovementForCollisions(movementX, stepUp, movementZ, boundingBox, checkWorld, walkOnLava);
 
-            BoundingBox stretchedBoundingBox = boundingBox.clone();
-            stretchedBoundingBox.extend(horizontalMovement);
-            double maxStepUp = correctMovementForCollisions(Vector3d.from(0, stepUp, 0), stretchedBoundingBox, checkWorld, walkOnLava).getY();
+            stepUpBoundingBox.copyFrom(boundingBox);
+            stepUpBoundingBox.extend(movementX, 0, movementZ);
+            double maxStepUp = correctMovementForCollisions(0, stepUp, 0, stepUpBoundingBox, checkWorld, walkOnLava).getY();
             if (maxStepUp < stepUp) { // The player collided with a block above them
-                BoundingBox stepUpBoundingBox = boundingBox.clone();
+                stepUpBoundingBox.copyFrom(boundingBox);
                 stepUpBoundingBox.translate(0, maxStepUp, 0);
 
-                Vector3d adjustedStepUpMovement = correctMovementForCollisions(horizontalMovement, stepUpBoundingBox, checkWorld, walkOnLava);
+                Vector3d adjustedStepUpMovement = correctMovementForCollisions(movementX, 0, movementZ, stepUpBoundingBox, checkWorld, walkOnLava);
                 if (squaredHorizontalLength(adjustedStepUpMovement) > squaredHorizontalLength(stepUpMovement)) {
                     stepUpMovement = adjustedStepUpMovement.up(maxStepUp);
                 }
             }
 
             if (squaredHorizontalLength(stepUpMovement) > squaredHorizontalLength(adjustedMovement)) {
-                BoundingBox stepUpBoundingBox = boundingBox.clone();
+                stepUpBoundingBox.copyFrom(boundingBox);
                 stepUpBoundingBox.translate(stepUpMovement.getX(), stepUpMovement.getY(), stepUpMovement.getZ());
 
                 // Apply the player's remaining vertical movement
-                double verticalMovement = correctMovementForCollisions(Vector3d.from(0, movement.getY() - stepUpMovement.getY(), 0), stepUpBoundingBox, checkWorld, walkOnLava).getY();
+                double verticalMovement = correctMovementForCollisions(0, movement.getY() - stepUpMovement.getY(), 0, stepUpBoundingBox, checkWorld, walkOnLava).getY();
 
                 stepUpMovement = stepUpMovement.up(verticalMovement);
                 adjustedMovement = stepUpMovement;
@@ -346,34 +354,40 @@ public class CollisionManager {
         return vector.getX() * vector.getX() + vector.getZ() * vector.getZ();
     }
 
-    private Vector3d correctMovementForCollisions(Vector3d movement, BoundingBox boundingBox, boolean checkWorld, boolean walkOnLava) {
-        double movementX = movement.getX();
-        double movementY = movement.getY();
-        double movementZ = movement.getZ();
-
+    private Vector3d correctMovementForCollisions(double movementX, double movementY, double movementZ, BoundingBox boundingBox, boolean checkWorld, boolean walkOnLava) {
         // Position might change slightly due to floating point error
         double originalX = boundingBox.getMiddleX();
         double originalY = boundingBox.getMiddleY();
         double originalZ = boundingBox.getMiddleZ();
 
-        BoundingBox movementBoundingBox = boundingBox.clone();
-        movementBoundingBox.extend(movement);
+        movementBoundingBox.copyFrom(boundingBox);
+        movementBoundingBox.extend(movementX, movementY, movementZ);
         BlockPositionIterator iter = collidableBlocksIterator(movementBoundingBox);
+        // Look up every block once, rather than once per axis
+        int[] blocks = null;
+        if (checkWorld) {
+            if (movementBlocks.length < iter.getMaxIterations()) {
+                movementBlocks = new int[iter.getMaxIterations()];
+            }
+            blocks = movementBlocks;
+            session.getGeyser().getWorldManager().getBlocksAt(session, iter, blocks);
+        }
+
         if (Math.abs(movementY) > CollisionManager.COLLISION_TOLERANCE) {
-            movementY = computeCollisionOffset(boundingBox, Axis.Y, movementY, iter, checkWorld, walkOnLava);
+            movementY = computeCollisionOffset(boundingBox, Axis.Y, movementY, iter, blocks, walkOnLava);
             boundingBox.translate(0, movementY, 0);
         }
         boolean checkZFirst = Math.abs(movementZ) > Math.abs(movementX);
         if (checkZFirst && Math.abs(movementZ) > CollisionManager.COLLISION_TOLERANCE) {
-            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, checkWorld, walkOnLava);
+            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, blocks, walkOnLava);
             boundingBox.translate(0, 0, movementZ);
         }
         if (Math.abs(movementX) > CollisionManager.COLLISION_TOLERANCE) {
-            movementX = computeCollisionOffset(boundingBox, Axis.X, movementX, iter, checkWorld, walkOnLava);
+            movementX = computeCollisionOffset(boundingBox, Axis.X, movementX, iter, blocks, walkOnLava);
             boundingBox.translate(movementX, 0, 0);
         }
         if (!checkZFirst && Math.abs(movementZ) > CollisionManager.COLLISION_TOLERANCE) {
-            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, checkWorld, walkOnLava);
+            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, blocks, walkOnLava);
             boundingBox.translate(0, 0, movementZ);
         }
 
@@ -384,20 +398,27 @@ public class CollisionManager {
         return Vector3d.from(movementX, movementY, movementZ);
     }
 
-    private double computeCollisionOffset(BoundingBox boundingBox, Axis axis, double offset, BlockPositionIterator iter, boolean checkWorld, boolean walkOnLava) {
+    /**
+     * @param blocks the blocks covered by the iterator, or null if the world should not be checked
+     */
+    private double computeCollisionOffset(BoundingBox boundingBox, Axis axis, double offset, BlockPositionIterator iter, int @Nullable [] blocks, boolean walkOnLava) {
+        PistonCache pistonCache = session.getPistonCache();
+        boolean checkPistons = !pistonCache.getMovingBlocksMap().isEmpty();
         for (iter.reset(); iter.hasNext(); iter.next()) {
             int x = iter.getX();
             int y = iter.getY();
             int z = iter.getZ();
-            if (checkWorld) {
-                int blockId = session.getGeyser().getWorldManager().getBlockAt(session, x, y, z);
+            if (blocks != null) {
+                int blockId = blocks[iter.getIteration()];
 
                 BlockCollision blockCollision = walkOnLava ? getCollisionLavaWalking(blockId, y, boundingBox) : BlockUtils.getCollision(blockId);
                 if (blockCollision != null && !(blockCollision instanceof ScaffoldingCollision)) {
                     offset = blockCollision.computeCollisionOffset(x, y, z, boundingBox, axis, offset);
                 }
             }
-            offset = session.getPistonCache().computeCollisionOffset(Vector3i.from(x, y, z), boundingBox, axis, offset);
+            if (checkPistons) {
+                offset = pistonCache.computeCollisionOffset(Vector3i.from(x, y, z), boundingBox, axis, offset);
+            }
             if (Math.abs(offset) < COLLISION_TOLERANCE) {
                 return 0;
             }
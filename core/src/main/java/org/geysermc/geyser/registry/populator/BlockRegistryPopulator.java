@@ -56,6 +56,7 @@ import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.BlockMappings;
 import org.geysermc.geyser.registry.type.GeyserBedrockBlock;
+import org.geysermc.geyser.translator.level.block.entity.BedrockChunkWantsBlockEntityTag;
 import org.geysermc.geyser.util.BlockUtils;
 import org.geysermc.mcprotocollib.protocol.data.game.item.ItemStack;
 
@@ -63,6 +64,10 @@ import java.io.DataInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 
@@ -118,274 +123,340 @@ public final class BlockRegistryPopulator {
         //noinspection UnstableApiUsage
         Interner<NbtMap> statesInterner = Interners.newStrongInterner();
 
-        for (ObjectIntPair<String> palette : blockMappers.keySet()) {
-            int protocolVersion = palette.valueInt();
-            List<NbtMap> vanillaBlockStates;
-            List<NbtMap> blockStates;
-            try (InputStream stream = GeyserImpl.getInstance().getBootstrap().getResourceOrThrow(String.format("bedrock/block_palette.%s.nbt", palette.key()));
-                NBTInputStream nbtInputStream = new NBTInputStream(new DataInputStream(new GZIPInputStream(stream)), true, true)) {
-                NbtMap blockPalette = (NbtMap) nbtInputStream.readTag();
-
-                vanillaBlockStates = new ArrayList<>(blockPalette.getList("blocks", NbtType.COMPOUND));
-                for (int i = 0; i < vanillaBlockStates.size(); i++) {
-                    NbtMapBuilder builder = vanillaBlockStates.get(i).toBuilder();
-                    builder.remove("version"); // Remove all nbt tags which are not needed for differentiating states
-                    builder.remove("name_hash"); // Quick workaround - was added in 1.19.20
-                    builder.remove("network_id"); // Added in 1.19.80
-                    builder.remove("block_id"); // Added in 1.20.60
-                    //noinspection UnstableApiUsage
-                    builder.putCompound("states", statesInterner.intern((NbtMap) builder.remove("states")));
-                    vanillaBlockStates.set(i, builder.build());
-                }
+        // Java data is the same for every palette version, so only process it once
+        // Stream isn't ideal.
+        List<Block> javaPottable = BlockRegistries.JAVA_BLOCKS.get()
+                .parallelStream()
+                .flatMap(block -> {
+                    if (block instanceof FlowerPotBlock flowerPot && flowerPot.flower() != Blocks.AIR) {
+                        return Stream.of(flowerPot.flower());
+                    }
+                    return null;
+                })
+                .toList();
+
+        List<BlockState> javaBlockStates = BlockRegistries.BLOCK_STATES.get();
+        for (int javaRuntimeId = 0; javaRuntimeId < BLOCKS_NBT.size(); javaRuntimeId++) {
+            BlockState blockState = javaBlockStates.get(javaRuntimeId);
+            Block block = blockState.block();
+            boolean waterlogged = blockState.getValue(Properties.WATERLOGGED, false)
+                    || block == Blocks.BUBBLE_COLUMN || block == Blocks.KELP || block == Blocks.KELP_PLANT
+                    || block == Blocks.SEAGRASS || block == Blocks.TALL_SEAGRASS;
+
+            if (waterlogged) {
+                BlockRegistries.WATERLOGGED.get().set(javaRuntimeId);
+            }
+        }
+
+        // Each palette version is independent, so build them in parallel. Custom blocks share
+        // a global block ID counter while generating their states, so they still need to go one at a time.
+        boolean parallel = BlockRegistries.CUSTOM_BLOCKS.get().length == 0;
+        Map<ObjectIntPair<String>, CompletableFuture<BlockMappings>> mappings = new LinkedHashMap<>();
+        for (Map.Entry<ObjectIntPair<String>, Remapper> entry : blockMappers.entrySet()) {
+            Supplier<BlockMappings> task = () -> {
+                long start = System.nanoTime();
+                BlockMappings blockMappings = createBlockMappings(entry.getKey(), entry.getValue(), statesInterner, javaPottable);
+                GeyserImpl.getInstance().getLogger().debug("Built block mappings for %s in %d ms"
+                        .formatted(entry.getKey().key(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+                return blockMappings;
+            };
+            mappings.put(entry.getKey(), parallel ? CompletableFuture.supplyAsync(task) : CompletableFuture.completedFuture(task.get()));
+        }
+
+        for (Map.Entry<ObjectIntPair<String>, CompletableFuture<BlockMappings>> entry : mappings.entrySet()) {
+            BlockRegistries.BLOCKS.register(entry.getKey().valueInt(), join(entry.getValue()));
+        }
+    }
 
-                blockStates = new ArrayList<>(vanillaBlockStates);
-            } catch (Exception e) {
-                throw new AssertionError("Unable to get blocks from runtime block states", e);
+    private static BlockMappings createBlockMappings(ObjectIntPair<String> palette, Remapper stateMapper, Interner<NbtMap> statesInterner, List<Block> javaPottable) {
+        int protocolVersion = palette.valueInt();
+        List<NbtMap> vanillaBlockStates;
+        List<NbtMap> blockStates;
+        try (InputStream stream = GeyserImpl.getInstance().getBootstrap().getResourceOrThrow(String.format("bedrock/block_palette.%s.nbt", palette.key()));
+            NBTInputStream nbtInputStream = new NBTInputStream(new DataInputStream(new GZIPInputStream(stream)), true, true)) {
+            NbtMap blockPalette = (NbtMap) nbtInputStream.readTag();
+
+            vanillaBlockStates = new ArrayList<>(blockPalette.getList("blocks", NbtType.COMPOUND));
+            for (int i = 0; i < vanillaBlockStates.size(); i++) {
+                NbtMapBuilder builder = vanillaBlockStates.get(i).toBuilder();
+                builder.remove("version"); // Remove all nbt tags which are not needed for differentiating states
+                builder.remove("name_hash"); // Quick workaround - was added in 1.19.20
+                builder.remove("network_id"); // Added in 1.19.80
+                builder.remove("block_id"); // Added in 1.20.60
+                //noinspection UnstableApiUsage
+                builder.putCompound("states", statesInterner.intern((NbtMap) builder.remove("states")));
+                vanillaBlockStates.set(i, builder.build());
             }
 
-            List<BlockPropertyData> customBlockProperties = new ArrayList<>();
-            List<NbtMap> customBlockStates = new ArrayList<>();
-            List<CustomBlockState> customExtBlockStates = new ArrayList<>();
-            int[] remappedVanillaIds = new int[0];
-            if (BlockRegistries.CUSTOM_BLOCKS.get().length != 0) {
-                CustomBlockRegistryPopulator.BLOCK_ID.set(CustomBlockRegistryPopulator.START_OFFSET);
-                for (CustomBlockData customBlock : BlockRegistries.CUSTOM_BLOCKS.get()) {
-                    customBlockProperties.add(CustomBlockRegistryPopulator.generateBlockPropertyData(customBlock, protocolVersion));
-                    CustomBlockRegistryPopulator.generateCustomBlockStates(customBlock, customBlockStates, customExtBlockStates);
-                }
-                blockStates.addAll(customBlockStates);
-                GeyserImpl.getInstance().getLogger().debug("Added " + customBlockStates.size() + " custom block states to v" + protocolVersion + " palette.");
+            blockStates = new ArrayList<>(vanillaBlockStates);
+        } catch (Exception e) {
+            throw new AssertionError("Unable to get blocks from runtime block states", e);
+        }
 
-                // The palette is sorted by the FNV1 64-bit hash of the name
-                blockStates.sort((a, b) -> Long.compareUnsigned(fnv164(a.getString("name")), fnv164(b.getString("name"))));
+        List<BlockPropertyData> customBlockProperties = new ArrayList<>();
+        List<NbtMap> customBlockStates = new ArrayList<>();
+        List<CustomBlockState> customExtBlockStates = new ArrayList<>();
+        int[] remappedVanillaIds = new int[0];
+        if (BlockRegistries.CUSTOM_BLOCKS.get().length != 0) {
+            CustomBlockRegistryPopulator.BLOCK_ID.set(CustomBlockRegistryPopulator.START_OFFSET);
+            for (CustomBlockData customBlock : BlockRegistries.CUSTOM_BLOCKS.get()) {
+                customBlockProperties.add(CustomBlockRegistryPopulator.generateBlockPropertyData(customBlock, protocolVersion));
+                CustomBlockRegistryPopulator.generateCustomBlockStates(customBlock, customBlockStates, customExtBlockStates);
             }
+            blockStates.addAll(customBlockStates);
+            GeyserImpl.getInstance().getLogger().debug("Added " + customBlockStates.size() + " custom block states to v" + protocolVersion + " palette.");
 
-            // New since 1.16.100 - find the block runtime ID by the order given to us in the block palette,
-            // as we no longer send a block palette
-            Object2ObjectMap<NbtMap, GeyserBedrockBlock> blockStateOrderedMap = new Object2ObjectOpenHashMap<>(blockStates.size());
-            GeyserBedrockBlock[] bedrockRuntimeMap = new GeyserBedrockBlock[blockStates.size()];
-            for (int i = 0; i < blockStates.size(); i++) {
-                NbtMap tag = blockStates.get(i);
-                if (blockStateOrderedMap.containsKey(tag)) {
-                    throw new AssertionError("Duplicate block states in Bedrock palette: " + tag);
-                }
-                GeyserBedrockBlock block = new GeyserBedrockBlock(i, tag);
-                blockStateOrderedMap.put(tag, block);
-                bedrockRuntimeMap[i] = block;
+            // The palette is sorted by the FNV1 64-bit hash of the name
+            blockStates.sort((a, b) -> Long.compareUnsigned(fnv164(a.getString("name")), fnv164(b.getString("name"))));
+        }
+
+        // New since 1.16.100 - find the block runtime ID by the order given to us in the block palette,
+        // as we no longer send a block palette
+        Object2ObjectMap<NbtMap, GeyserBedrockBlock> blockStateOrderedMap = new Object2ObjectOpenHashMap<>(blockStates.size());
+        GeyserBedrockBlock[] bedrockRuntimeMap = new GeyserBedrockBlock[blockStates.size()];
+        for (int i = 0; i < blockStates.size(); i++) {
+            NbtMap tag = blockStates.get(i);
+            if (blockStateOrderedMap.containsKey(tag)) {
+                throw new AssertionError("Duplicate block states in Bedrock palette: " + tag);
             }
+            GeyserBedrockBlock block = new GeyserBedrockBlock(i, tag);
+            blockStateOrderedMap.put(tag, block);
+            bedrockRuntimeMap[i] = block;
+        }
 
-            Object2ObjectMap<CustomBlockState, GeyserBedrockBlock> customBlockStateDefinitions = Object2ObjectMaps.emptyMap();
-            Int2ObjectMap<GeyserBedrockBlock> extendedCollisionBoxes = new Int2ObjectOpenHashMap<>();
-            if (BlockRegistries.CUSTOM_BLOCKS.get().length != 0) {
-                customBlockStateDefinitions = new Object2ObjectOpenHashMap<>(customExtBlockStates.size());
-                for (int i = 0; i < customExtBlockStates.size(); i++) {
-                    NbtMap tag = customBlockStates.get(i);
-                    CustomBlockState blockState = customExtBlockStates.get(i);
-                    GeyserBedrockBlock bedrockBlock = blockStateOrderedMap.get(tag);
-                    customBlockStateDefinitions.put(blockState, bedrockBlock);
-
-                    Set<Integer> extendedCollisionjavaIds = BlockRegistries.EXTENDED_COLLISION_BOXES.getOrDefault(blockState.block(), null);
-                    if (extendedCollisionjavaIds != null) {
-                        for (int javaId : extendedCollisionjavaIds) {
-                            extendedCollisionBoxes.put(javaId, bedrockBlock);
-                        }
+        Object2ObjectMap<CustomBlockState, GeyserBedrockBlock> customBlockStateDefinitions = Object2ObjectMaps.emptyMap();
+        Int2ObjectMap<GeyserBedrockBlock> extendedCollisionBoxes = new Int2ObjectOpenHashMap<>();
+        if (BlockRegistries.CUSTOM_BLOCKS.get().length != 0) {
+            customBlockStateDefinitions = new Object2ObjectOpenHashMap<>(customExtBlockStates.size());
+            for (int i = 0; i < customExtBlockStates.size(); i++) {
+                NbtMap tag = customBlockStates.get(i);
+                CustomBlockState blockState = customExtBlockStates.get(i);
+                GeyserBedrockBlock bedrockBlock = blockStateOrderedMap.get(tag);
+                customBlockStateDefinitions.put(blockState, bedrockBlock);
+
+                Set<Integer> extendedCollisionjavaIds = BlockRegistries.EXTENDED_COLLISION_BOXES.getOrDefault(blockState.block(), null);
+                if (extendedCollisionjavaIds != null) {
+                    for (int javaId : extendedCollisionjavaIds) {
+                        extendedCollisionBoxes.put(javaId, bedrockBlock);
                     }
                 }
-
-                remappedVanillaIds = new int[vanillaBlockStates.size()];
-                for (int i = 0; i < vanillaBlockStates.size(); i++) {
-                    GeyserBedrockBlock bedrockBlock = blockStateOrderedMap.get(vanillaBlockStates.get(i));
-                    remappedVanillaIds[i] = bedrockBlock != null ? bedrockBlock.getRuntimeId() : -1;
-                }
             }
 
-            int javaRuntimeId = -1;
-
-            List<BlockState> javaBlockStates = BlockRegistries.BLOCK_STATES.get();
+            remappedVanillaIds = new int[vanillaBlockStates.size()];
+            for (int i = 0; i < vanillaBlockStates.size(); i++) {
+                GeyserBedrockBlock bedrockBlock = blockStateOrderedMap.get(vanillaBlockStates.get(i));
+                remappedVanillaIds[i] = bedrockBlock != null ? bedrockBlock.getRuntimeId() : -1;
+            }
+        }
 
-            GeyserBedrockBlock airDefinition = null;
-            BlockDefinition commandBlockDefinition = null;
-            BlockDefinition mobSpawnerBlockDefinition = null;
-            BlockDefinition waterDefinition = null;
-            BlockDefinition movingBlockDefinition = null;
-            Iterator<NbtMap> blocksIterator = BLOCKS_NBT.iterator();
+        int javaRuntimeId = -1;
 
-            Remapper stateMapper = blockMappers.get(palette);
+        List<BlockState> javaBlockStates = BlockRegistries.BLOCK_STATES.get();
 
-            GeyserBedrockBlock[] javaToBedrockBlocks = new GeyserBedrockBlock[JAVA_BLOCKS_SIZE];
-            GeyserBedrockBlock[] javaToVanillaBedrockBlocks = new GeyserBedrockBlock[JAVA_BLOCKS_SIZE];
+        GeyserBedrockBlock airDefinition = null;
+        BlockDefinition commandBlockDefinition = null;
+        BlockDefinition mobSpawnerBlockDefinition = null;
+        BlockDefinition waterDefinition = null;
+        BlockDefinition movingBlockDefinition = null;
+        Iterator<NbtMap> blocksIterator = BLOCKS_NBT.iterator();
 
-            var javaToBedrockIdentifiers = new Int2ObjectOpenHashMap<String>();
-            Block lastBlockSeen = null;
+        GeyserBedrockBlock[] javaToBedrockBlocks = new GeyserBedrockBlock[JAVA_BLOCKS_SIZE];
+        GeyserBedrockBlock[] javaToVanillaBedrockBlocks = new GeyserBedrockBlock[JAVA_BLOCKS_SIZE];
 
-            // Stream isn't ideal.
-            List<Block> javaPottable = BlockRegistries.JAVA_BLOCKS.get()
-                    .parallelStream()
-                    .flatMap(block -> {
-                        if (block instanceof FlowerPotBlock flowerPot && flowerPot.flower() != Blocks.AIR) {
-                            return Stream.of(flowerPot.flower());
-                        }
-                        return null;
-                    })
-                    .toList();
-            Map<Block, NbtMap> flowerPotBlocks = new Object2ObjectOpenHashMap<>();
-            Map<NbtMap, BlockDefinition> itemFrames = new Object2ObjectOpenHashMap<>();
-
-            Set<BlockDefinition> jigsawDefinitions = new ObjectOpenHashSet<>();
-            Map<String, BlockDefinition> structureBlockDefinitions = new Object2ObjectOpenHashMap<>();
-
-            BlockMappings.BlockMappingsBuilder builder = BlockMappings.builder();
-            while (blocksIterator.hasNext()) {
-                javaRuntimeId++;
-                NbtMap entry = blocksIterator.next();
-                BlockState blockState = javaBlockStates.get(javaRuntimeId);
-                String javaId = blockState.toString();
-
-                NbtMap originalBedrockTag = buildBedrockState(blockState, entry);
-                NbtMap bedrockTag = stateMapper.remap(originalBedrockTag);
-
-                GeyserBedrockBlock vanillaBedrockDefinition = blockStateOrderedMap.get(bedrockTag);
-
-                GeyserBedrockBlock bedrockDefinition;
-                CustomBlockState blockStateOverride = BlockRegistries.CUSTOM_BLOCK_STATE_OVERRIDES.get(javaRuntimeId);
-                if (blockStateOverride == null) {
-                    bedrockDefinition = vanillaBedrockDefinition;
-                    if (bedrockDefinition == null) {
-                        throw new RuntimeException("""
-                            Unable to find %s Bedrock runtime ID for %s! Original block tag:
-                            %s
-                            Updated block tag:
-                            %s""".formatted(javaId, palette.key(), originalBedrockTag, bedrockTag));
-                    }
-                } else {
-                    bedrockDefinition = customBlockStateDefinitions.get(blockStateOverride);
-                    if (bedrockDefinition == null) {
-                        throw new RuntimeException("Unable to find " + javaId + " Bedrock runtime ID! Custom block override: \n" +
-                            blockStateOverride);
-                    }
-                }
+        var javaToBedrockIdentifiers = new Int2ObjectOpenHashMap<String>();
+        Block lastBlockSeen = null;
 
-                switch (javaId) {
-                    case "minecraft:air" -> airDefinition = bedrockDefinition;
-                    case "minecraft:water[level=0]" -> waterDefinition = bedrockDefinition;
-                    case "minecraft:command_block[conditional=false,facing=north]" -> commandBlockDefinition = bedrockDefinition;
-                    case "minecraft:spawner" -> mobSpawnerBlockDefinition = bedrockDefinition;
-                    case "minecraft:moving_piston[facing=north,type=normal]" -> movingBlockDefinition = bedrockDefinition;
-                }
+        Map<Block, NbtMap> flowerPotBlocks = new Object2ObjectOpenHashMap<>();
+        Map<NbtMap, BlockDefinition> itemFrames = new Object2ObjectOpenHashMap<>();
 
-                Block block = blockState.block();
-                if (block != lastBlockSeen) {
-                    lastBlockSeen = block;
-                    String bedrockName = bedrockDefinition.getState().getString("name");
-                    if (!block.javaIdentifier().toString().equals(bedrockName)) {
-                        javaToBedrockIdentifiers.put(block.javaId(), bedrockName.substring("minecraft:".length()).intern());
-                    }
-                }
+        Set<BlockDefinition> jigsawDefinitions = new ObjectOpenHashSet<>();
+        Map<String, BlockDefinition> structureBlockDefinitions = new Object2ObjectOpenHashMap<>();
 
-                if (block == Blocks.JIGSAW) {
-                    jigsawDefinitions.add(bedrockDefinition);
+        BlockMappings.BlockMappingsBuilder builder = BlockMappings.builder();
+        while (blocksIterator.hasNext()) {
+            javaRuntimeId++;
+            NbtMap entry = blocksIterator.next();
+            BlockState blockState = javaBlockStates.get(javaRuntimeId);
+            String javaId = blockState.toString();
+
+            NbtMap originalBedrockTag = buildBedrockState(blockState, entry);
+            NbtMap bedrockTag = stateMapper.remap(originalBedrockTag);
+
+            GeyserBedrockBlock vanillaBedrockDefinition = blockStateOrderedMap.get(bedrockTag);
+
+            GeyserBedrockBlock bedrockDefinition;
+            CustomBlockState blockStateOverride = BlockRegistries.CUSTOM_BLOCK_STATE_OVERRIDES.get(javaRuntimeId);
+            if (blockStateOverride == null) {
+                bedrockDefinition = vanillaBedrockDefinition;
+                if (bedrockDefinition == null) {
+                    throw new RuntimeException("""
+                        Unable to find %s Bedrock runtime ID for %s! Original block tag:
+                        %s
+                        Updated block tag:
+                        %s""".formatted(javaId, palette.key(), originalBedrockTag, bedrockTag));
                 }
-
-                if (block == Blocks.STRUCTURE_BLOCK) {
-                    String mode = blockState.getValue(Properties.STRUCTUREBLOCK_MODE);
-                    structureBlockDefinitions.put(mode.toUpperCase(Locale.ROOT), bedrockDefinition);
+            } else {
+                bedrockDefinition = customBlockStateDefinitions.get(blockStateOverride);
+                if (bedrockDefinition == null) {
+                    throw new RuntimeException("Unable to find " + javaId + " Bedrock runtime ID! Custom block override: \n" +
+                        blockStateOverride);
                 }
+            }
 
-                boolean waterlogged = blockState.getValue(Properties.WATERLOGGED, false)
-                        || block == Blocks.BUBBLE_COLUMN || block == Blocks.KELP || block == Blocks.KELP_PLANT
-                        || block == Blocks.SEAGRASS || block == Blocks.TALL_SEAGRASS;
-
-                if (waterlogged) {
-                    BlockRegistries.WATERLOGGED.get().set(javaRuntimeId);
-                }
+            switch (javaId) {
+                case "minecraft:air" -> airDefinition = bedrockDefinition;
+                case "minecraft:water[level=0]" -> waterDefinition = bedrockDefinition;
+                case "minecraft:command_block[conditional=false,facing=north]" -> commandBlockDefinition = bedrockDefinition;
+                case "minecraft:spawner" -> mobSpawnerBlockDefinition = bedrockDefinition;
+                case "minecraft:moving_piston[facing=north,type=normal]" -> movingBlockDefinition = bedrockDefinition;
+            }
 
-                // Get the tag needed for non-empty flower pots
-                if (javaPottable.contains(block)) {
-                    // Specifically NOT putIfAbsent - mangrove propagule breaks otherwise
-                    flowerPotBlocks.put(block, blockStates.get(bedrockDefinition.getRuntimeId()));
+            Block block = blockState.block();
+            if (block != lastBlockSeen) {
+                lastBlockSeen = block;
+                String bedrockName = bedrockDefinition.getState().getString("name");
+                if (!block.javaIdentifier().toString().equals(bedrockName)) {
+                    javaToBedrockIdentifiers.put(block.javaId(), bedrockName.substring("minecraft:".length()).intern());
                 }
-
-                javaToVanillaBedrockBlocks[javaRuntimeId] = vanillaBedrockDefinition;
-                javaToBedrockBlocks[javaRuntimeId] = bedrockDefinition;
             }
 
-            if (commandBlockDefinition == null) {
-                throw new AssertionError("Unable to find command block in palette");
+            if (block == Blocks.JIGSAW) {
+                jigsawDefinitions.add(bedrockDefinition);
             }
-            builder.commandBlock(commandBlockDefinition);
 
-            if (mobSpawnerBlockDefinition == null) {
-                throw new AssertionError("Unable to find mob spawner block in palette");
+            if (block == Blocks.STRUCTURE_BLOCK) {
+                String mode = blockState.getValue(Properties.STRUCTUREBLOCK_MODE);
+                structureBlockDefinitions.put(mode.toUpperCase(Locale.ROOT), bedrockDefinition);
             }
-            builder.mobSpawnerBlock(mobSpawnerBlockDefinition);
 
-            if (waterDefinition  == null) {
-                throw new AssertionError("Unable to find water in palette");
+            // Get the tag needed for non-empty flower pots
+            if (javaPottable.contains(block)) {
+                // Specifically NOT putIfAbsent - mangrove propagule breaks otherwise
+                flowerPotBlocks.put(block, blockStates.get(bedrockDefinition.getRuntimeId()));
             }
-            builder.bedrockWater(waterDefinition);
 
-            if (airDefinition  == null) {
-                throw new AssertionError("Unable to find air in palette");
-            }
-            builder.bedrockAir(airDefinition);
+            javaToVanillaBedrockBlocks[javaRuntimeId] = vanillaBedrockDefinition;
+            javaToBedrockBlocks[javaRuntimeId] = bedrockDefinition;
+        }
 
-            if (movingBlockDefinition  == null) {
-                throw new AssertionError("Unable to find moving block in palette");
-            }
-            builder.bedrockMovingBlock(movingBlockDefinition);
-
-            Map<JavaBlockState, CustomBlockState> nonVanillaStateOverrides = BlockRegistries.NON_VANILLA_BLOCK_STATE_OVERRIDES.get();
-            if (!nonVanillaStateOverrides.isEmpty()) {
-                // First ensure all non vanilla runtime IDs at minimum are air in case they aren't consecutive
-                Arrays.fill(javaToVanillaBedrockBlocks, MIN_CUSTOM_RUNTIME_ID, javaToVanillaBedrockBlocks.length, airDefinition);
-                Arrays.fill(javaToBedrockBlocks, MIN_CUSTOM_RUNTIME_ID, javaToBedrockBlocks.length, airDefinition);
-
-                for (Map.Entry<JavaBlockState, CustomBlockState> entry : nonVanillaStateOverrides.entrySet()) {
-                    GeyserBedrockBlock bedrockDefinition = customBlockStateDefinitions.get(entry.getValue());
-                    if (bedrockDefinition == null) {
-                        GeyserImpl.getInstance().getLogger().warning("Unable to find custom block for " + entry.getValue());
-                        continue;
-                    }
+        if (commandBlockDefinition == null) {
+            throw new AssertionError("Unable to find command block in palette");
+        }
+        builder.commandBlock(commandBlockDefinition);
 
-                    JavaBlockState javaState = entry.getKey();
-                    int stateRuntimeId = javaState.javaId();
+        if (mobSpawnerBlockDefinition == null) {
+            throw new AssertionError("Unable to find mob spawner block in palette");
+        }
+        builder.mobSpawnerBlock(mobSpawnerBlockDefinition);
 
-                    boolean waterlogged = javaState.waterlogged();
+        if (waterDefinition  == null) {
+            throw new AssertionError("Unable to find water in palette");
+        }
+        builder.bedrockWater(waterDefinition);
 
-                    if (waterlogged) {
-                        BlockRegistries.WATERLOGGED.register(set -> set.set(stateRuntimeId));
-                    }
+        if (airDefinition  == null) {
+            throw new AssertionError("Unable to find air in palette");
+        }
+        builder.bedrockAir(airDefinition);
 
-                    javaToVanillaBedrockBlocks[stateRuntimeId] = bedrockDefinition; // TODO: Check this?
-                    javaToBedrockBlocks[stateRuntimeId] = bedrockDefinition;
-                    javaToBedrockIdentifiers.put(entry.getKey().stateGroupId(), entry.getValue().block().identifier());
+        if (movingBlockDefinition  == null) {
+            throw new AssertionError("Unable to find moving block in palette");
+        }
+        builder.bedrockMovingBlock(movingBlockDefinition);
+
+        Map<JavaBlockState, CustomBlockState> nonVanillaStateOverrides = BlockRegistries.NON_VANILLA_BLOCK_STATE_OVERRIDES.get();
+        if (!nonVanillaStateOverrides.isEmpty()) {
+            // First ensure all non vanilla runtime IDs at minimum are air in case they aren't consecutive
+            Arrays.fill(javaToVanillaBedrockBlocks, MIN_CUSTOM_RUNTIME_ID, javaToVanillaBedrockBlocks.length, airDefinition);
+            Arrays.fill(javaToBedrockBlocks, MIN_CUSTOM_RUNTIME_ID, javaToBedrockBlocks.length, airDefinition);
+
+            for (Map.Entry<JavaBlockState, CustomBlockState> entry : nonVanillaStateOverrides.entrySet()) {
+                GeyserBedrockBlock bedrockDefinition = customBlockStateDefinitions.get(entry.getValue());
+                if (bedrockDefinition == null) {
+                    GeyserImpl.getInstance().getLogger().warning("Unable to find custom block for " + entry.getValue());
+                    continue;
                 }
-            }
 
-            javaToBedrockIdentifiers.trim();
+                JavaBlockState javaState = entry.getKey();
+                int stateRuntimeId = javaState.javaId();
+
+                boolean waterlogged = javaState.waterlogged();
 
-            // Loop around again to find all item frame runtime IDs
-            Object2ObjectMaps.fastForEach(blockStateOrderedMap, entry -> {
-                String name = entry.getKey().getString("name");
-                if (name.equals("minecraft:frame") || name.equals("minecraft:glow_frame")) {
-                    itemFrames.put(entry.getKey(), entry.getValue());
+                if (waterlogged) {
+                    BlockRegistries.WATERLOGGED.register(set -> set.set(stateRuntimeId));
                 }
-            });
-
-            BlockRegistries.BLOCKS.register(palette.valueInt(), builder.bedrockRuntimeMap(bedrockRuntimeMap)
-                    .javaToBedrockBlocks(javaToBedrockBlocks)
-                    .javaToVanillaBedrockBlocks(javaToVanillaBedrockBlocks)
-                    .javaToBedrockIdentifiers(javaToBedrockIdentifiers)
-                    .stateDefinitionMap(blockStateOrderedMap)
-                    .itemFrames(itemFrames)
-                    .flowerPotBlocks(flowerPotBlocks)
-                    .jigsawStates(jigsawDefinitions)
-                    .structureBlockStates(structureBlockDefinitions)
-                    .remappedVanillaIds(remappedVanillaIds)
-                    .blockProperties(customBlockProperties)
-                    .customBlockStateDefinitions(customBlockStateDefinitions)
-                    .extendedCollisionBoxes(extendedCollisionBoxes)
-                    .build());
+
+                javaToVanillaBedrockBlocks[stateRuntimeId] = bedrockDefinition; // TODO: Check this?
+                javaToBedrockBlocks[stateRuntimeId] = bedrockDefinition;
+                javaToBedrockIdentifiers.put(entry.getKey().stateGroupId(), entry.getValue().block().identifier());
+            }
+        }
+
+        javaToBedrockIdentifiers.trim();
+
+        // Loop around again to find all item frame runtime IDs
+        Object2ObjectMaps.fastForEach(blockStateOrderedMap, entry -> {
+            String name = entry.getKey().getString("name");
+            if (name.equals("minecraft:frame") || name.equals("minecraft:glow_frame")) {
+                itemFrames.put(entry.getKey(), entry.getValue());
+            }
+        });
+
+        builder.chunkTraits(buildChunkTraits(javaToBedrockBlocks, airDefinition, extendedCollisionBoxes));
+
+        return builder.bedrockRuntimeMap(bedrockRuntimeMap)
+                .javaToBedrockBlocks(javaToBedrockBlocks)
+                .javaToVanillaBedrockBlocks(javaToVanillaBedrockBlocks)
+                .javaToBedrockIdentifiers(javaToBedrockIdentifiers)
+                .stateDefinitionMap(blockStateOrderedMap)
+                .itemFrames(itemFrames)
+                .flowerPotBlocks(flowerPotBlocks)
+                .jigsawStates(jigsawDefinitions)
+                .structureBlockStates(structureBlockDefinitions)
+                .remappedVanillaIds(remappedVanillaIds)
+                .blockProperties(customBlockProperties)
+                .customBlockStateDefinitions(customBlockStateDefinitions)
+                .extendedCollisionBoxes(extendedCollisionBoxes)
+                .build();
+    }
+
+    private static int[] buildChunkTraits(GeyserBedrockBlock[] javaToBedrockBlocks, GeyserBedrockBlock airDefinition, Int2ObjectMap<GeyserBedrockBlock> extendedCollisionBoxes) {
+        BitSet waterlogged = BlockRegistries.WATERLOGGED.get();
+        int[] chunkTraits = new int[javaToBedrockBlocks.length];
+        for (int javaId = 0; javaId < chunkTraits.length; javaId++) {
+            GeyserBedrockBlock bedrockBlock = javaToBedrockBlocks[javaId];
+            int traits = (bedrockBlock == null ? airDefinition : bedrockBlock).getRuntimeId();
+            if ((traits & ~BlockMappings.RUNTIME_ID_MASK) != 0) {
+                throw new AssertionError("Bedrock runtime ID " + traits + " does not fit in the chunk traits table");
+            }
+            if (waterlogged.get(javaId)) {
+                traits |= BlockMappings.TRAIT_WATERLOGGED;
+            }
+            if (BlockState.of(javaId).block() instanceof BedrockChunkWantsBlockEntityTag) {
+                traits |= BlockMappings.TRAIT_BEDROCK_BLOCK_ENTITY;
+            }
+            if (extendedCollisionBoxes.containsKey(javaId)) {
+                traits |= BlockMappings.TRAIT_EXTENDED_COLLISION;
+            }
+            chunkTraits[javaId] = traits;
+        }
+        return chunkTraits;
+    }
+
+    /**
+     * Waits for a registry task, rethrowing whatever it failed with.
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
         }
     }
 
@@ -45,6 +45,11 @@ import java.util.Set;
 @Builder
 @Value
 public class BlockMappings implements DefinitionRegistry<BlockDefinition> {
+    public static final int RUNTIME_ID_MASK = 0xFFFFFF;
+    public static final int TRAIT_WATERLOGGED = 1 << 24;
+    public static final int TRAIT_BEDROCK_BLOCK_ENTITY = 1 << 25;
+    public static final int TRAIT_EXTENDED_COLLISION = 1 << 26;
+
     GeyserBedrockBlock bedrockAir;
     BlockDefinition bedrockWater;
     BlockDefinition bedrockMovingBlock;
@@ -75,10 +80,26 @@ public class BlockMappings implements DefinitionRegistry<BlockDefinition> {
     Object2ObjectMap<CustomBlockState, GeyserBedrockBlock> customBlockStateDefinitions;
     Int2ObjectMap<GeyserBedrockBlock> extendedCollisionBoxes;
 
+    /**
+     * Java block state -> Bedrock runtime ID ({@link #RUNTIME_ID_MASK}) packed with the TRAIT_ bits,
+     * so chunk translation can find out everything it needs about a state with a single array read.
+     */
+    int[] chunkTraits;
+
     public int getBedrockBlockId(int javaState) {
         return getBedrockBlock(javaState).getRuntimeId();
     }
 
+    /**
+     * @return the Bedrock runtime ID and TRAIT_ bits of this Java block state
+     */
+    public int getChunkTraits(int javaState) {
+        if (javaState < 0 || javaState >= this.chunkTraits.length) {
+            return bedrockAir.getRuntimeId();
+        }
+        return this.chunkTraits[javaState];
+    }
+
     public GeyserBedrockBlock getBedrockBlock(int javaState) {
         if (javaState < 0 || javaState >= this.javaToBedrockBlocks.length) {
             return bedrockAir;
@@ -25,6 +25,9 @@
 
 package org.geysermc.geyser.scoreboard;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import net.kyori.adventure.text.Component;
@@ -35,7 +38,7 @@ import org.geysermc.mcprotocollib.protocol.data.game.scoreboard.TeamColor;
 
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 @Getter
 public final class Objective {
@@ -53,7 +56,12 @@ public final class Objective {
     private NumberFormat numberFormat;
     private int type = 0; // 0 = integer, 1 = heart
 
-    private Map<String, Score> scores = new ConcurrentHashMap<>();
+    private Map<String, Score> scores = new Object2ObjectOpenHashMap<>();
+    /**
+     * Scores that have changed since the last scoreboard update.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final Set<Score> dirtyScores = new ObjectOpenHashSet<>();
 
     private Objective(Scoreboard scoreboard) {
         this.id = scoreboard.getNextId().getAndIncrement();
@@ -99,6 +107,7 @@ public final class Objective {
                     .setNumberFormat(numberFormat)
                     .setUpdateType(UpdateType.ADD);
             scores.put(id, scoreObject);
+            dirtyScores.add(scoreObject);
         }
     }
 
@@ -109,6 +118,7 @@ public final class Objective {
                     .setDisplayName(displayName)
                     .setNumberFormat(numberFormat)
                     .setUpdateType(UpdateType.UPDATE);
+            dirtyScores.add(stored);
             return;
         }
         registerScore(id, score, displayName, numberFormat);
@@ -118,6 +128,7 @@ public final class Objective {
         Score stored = scores.get(id);
         if (stored != null) {
             stored.setUpdateType(UpdateType.REMOVE);
+            dirtyScores.add(stored);
         }
     }
 
@@ -128,6 +139,19 @@ public final class Objective {
         scores.remove(id);
     }
 
+    /**
+     * Marks the score of this entity, if it exists, as needing to be re-sent on the next update.
+     */
+    void markDirty(String id) {
+        if (scores == null) {
+            return;
+        }
+        Score score = scores.get(id);
+        if (score != null) {
+            dirtyScores.add(score);
+        }
+    }
+
     public Objective setDisplayName(String displayName) {
         this.displayName = displayName;
         if (updateType == UpdateType.NOTHING) {
@@ -150,6 +174,7 @@ public final class Objective {
         for (Score score : scores.values()) {
             if (score.getNumberFormat() == null) {
                 score.setUpdateType(UpdateType.UPDATE);
+                dirtyScores.add(score);
             }
         }
 
@@ -205,5 +230,6 @@ public final class Objective {
         active = false;
         updateType = UpdateType.REMOVE;
         scores = null;
+        dirtyScores.clear();
     }
 }
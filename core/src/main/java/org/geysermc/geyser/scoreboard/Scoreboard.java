@@ -26,6 +26,7 @@
 package org.geysermc.geyser.scoreboard;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import lombok.Getter;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.bedrock.data.ScoreInfo;
@@ -35,7 +36,6 @@ import org.cloudburstmc.protocol.bedrock.packet.SetDisplayObjectivePacket;
 import org.cloudburstmc.protocol.bedrock.packet.SetScorePacket;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.GeyserLogger;
-import org.geysermc.geyser.entity.type.Entity;
 import org.geysermc.geyser.entity.type.player.PlayerEntity;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.text.GeyserLocale;
@@ -43,7 +43,6 @@ import org.geysermc.mcprotocollib.protocol.data.game.scoreboard.ScoreboardPositi
 import org.jetbrains.annotations.Contract;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -59,10 +58,10 @@ public final class Scoreboard {
     @Getter
     private final AtomicLong nextId = new AtomicLong(0);
 
-    private final Map<String, Objective> objectives = new ConcurrentHashMap<>();
+    private final Map<String, Objective> objectives = new Object2ObjectOpenHashMap<>();
     @Getter
     private final Map<ScoreboardPosition, Objective> objectiveSlots = new EnumMap<>(ScoreboardPosition.class);
-    private final Map<String, Team> teams = new ConcurrentHashMap<>(); // updated on multiple threads
+    private final Map<String, Team> teams = new Object2ObjectOpenHashMap<>();
     /**
      * Required to preserve vanilla behavior, which also uses a map.
      * Otherwise, for example, if TAB has a team for a player and vanilla has a team, "race conditions" that do not
@@ -71,6 +70,15 @@ public final class Scoreboard {
     @Getter
     private final Map<String, Team> playerToTeam = new Object2ObjectOpenHashMap<>();
 
+    /**
+     * Teams that have changed since the last update; the scores of all their members need to be re-sent.
+     */
+    private final Set<Team> dirtyTeams = new ObjectOpenHashSet<>();
+    /**
+     * Teams that have been prepared for the current update, and need to be marked as updated once it is done.
+     */
+    private final List<Team> updatingTeams = new ArrayList<>();
+
     private int lastAddScoreCount = 0;
     private int lastRemoveScoreCount = 0;
 
@@ -149,6 +157,7 @@ public final class Scoreboard {
         team = new Team(this, teamName);
         team.addEntities(players);
         teams.put(teamName, team);
+        dirtyTeams.add(team);
 
         // Update command parameters - is safe to send even if the command enum doesn't exist on the client (as of 1.19.51)
         if (ADD_TEAM_SUGGESTIONS) {
@@ -158,6 +167,15 @@ public final class Scoreboard {
     }
 
     public void onUpdate() {
+        if (!dirtyTeams.isEmpty()) {
+            for (Team team : dirtyTeams) {
+                for (String name : team.getEntities()) {
+                    markScoresDirty(name);
+                }
+            }
+            dirtyTeams.clear();
+        }
+
         List<ScoreInfo> addScores = new ArrayList<>(lastAddScoreCount);
         List<ScoreInfo> removeScores = new ArrayList<>(lastRemoveScoreCount);
         List<Objective> removedObjectives = new ArrayList<>();
@@ -198,15 +216,10 @@ public final class Scoreboard {
         handleObjective(correctSidebar, addScores, removeScores);
         handleObjective(objectiveSlots.get(ScoreboardPosition.BELOW_NAME), addScores, removeScores);
 
-        Iterator<Team> teamIterator = teams.values().iterator();
-        while (teamIterator.hasNext()) {
-            Team current = teamIterator.next();
-
-            switch (current.getCachedUpdateType()) {
-                case ADD, UPDATE -> current.markUpdated();
-                case REMOVE -> teamIterator.remove();
-            }
+        for (Team team : updatingTeams) {
+            team.markUpdated();
         }
+        updatingTeams.clear();
 
         if (!removeScores.isEmpty()) {
             SetScorePacket setScorePacket = new SetScorePacket();
@@ -231,9 +244,15 @@ public final class Scoreboard {
             return;
         }
 
+        boolean objectiveAdd = objective.getUpdateType() == ADD;
+        boolean objectiveUpdate = objective.getUpdateType() == UPDATE;
+
+        // Only look at every score if the whole objective needs to be re-sent
+        Collection<Score> scores = objectiveAdd || objectiveUpdate ? objective.getScores().values() : objective.getDirtyScores();
+
         // hearts can't hold teams, so we treat them differently
         if (objective.getType() == 1) {
-            for (Score score : objective.getScores().values()) {
+            for (Score score : scores) {
                 boolean update = score.shouldUpdate();
 
                 if (update) {
@@ -247,23 +266,27 @@ public final class Scoreboard {
                     removeScores.add(score.getCachedInfo());
                 }
             }
+            objective.getDirtyScores().clear();
             return;
         }
 
-        boolean objectiveAdd = objective.getUpdateType() == ADD;
-        boolean objectiveUpdate = objective.getUpdateType() == UPDATE;
-
-        for (Score score : objective.getScores().values()) {
+        Iterator<Score> iterator = scores.iterator();
+        while (iterator.hasNext()) {
+            Score score = iterator.next();
             if (score.getUpdateType() == REMOVE) {
                 ScoreInfo cachedInfo = score.getCachedInfo();
-                // cachedInfo can be null here when ScoreboardUpdater is being used and a score is added and
+                // cachedInfo can be null here when ScoreboardUpdater is holding back updates and a score is added and
                 // removed before a single update cycle is performed
                 if (cachedInfo != null) {
                     removeScores.add(cachedInfo);
                 }
                 // score is pending to be removed, so we can remove it from the objective
-                objective.removeScore0(score.getName());
-                break;
+                if (scores == objective.getDirtyScores()) {
+                    objective.removeScore0(score.getName());
+                } else {
+                    iterator.remove();
+                }
+                continue;
             }
 
             Team team = score.getTeam();
@@ -295,6 +318,7 @@ public final class Scoreboard {
 
             score.setUpdateType(NOTHING);
         }
+        objective.getDirtyScores().clear();
 
         if (objectiveUpdate) {
             RemoveObjectivePacket removeObjectivePacket = new RemoveObjectivePacket();
@@ -331,6 +355,23 @@ public final class Scoreboard {
         session.sendUpstreamPacket(removeObjectivePacket);
     }
 
+    /**
+     * Marks the scores of this entity in all objectives as needing to be re-sent on the next update.
+     */
+    void markScoresDirty(String name) {
+        for (Objective objective : objectives.values()) {
+            objective.markDirty(name);
+        }
+    }
+
+    void markDirty(Team team) {
+        dirtyTeams.add(team);
+    }
+
+    void teamUpdating(Team team) {
+        updatingTeams.add(team);
+    }
+
     public Objective getObjective(String objectiveName) {
         return objectives.get(objectiveName);
     }
@@ -399,16 +440,10 @@ public final class Scoreboard {
             // If the player's team changed, then other entities' teams may modify their visibility based on team status
             refreshSessionPlayerDisplays();
         }
-        if (!names.isEmpty()) {
-            for (Entity entity : session.getEntityCache().getEntities().values()) {
-                // This more complex logic is for the future to iterate over all entities, not just players
-                if (entity instanceof PlayerEntity player && names.remove(player.getUsername())) {
-                    player.updateDisplayName(team);
-                    player.updateBedrockMetadata();
-                    if (names.isEmpty()) {
-                        break;
-                    }
-                }
+        for (String name : names) {
+            for (PlayerEntity player : session.getEntityCache().getPlayerEntitiesByUsername(name)) {
+                player.updateDisplayName(team);
+                player.updateBedrockMetadata();
             }
         }
     }
@@ -417,9 +452,9 @@ public final class Scoreboard {
      * If the team's player was refreshed, then we need to go through every entity and check...
      */
     private void refreshSessionPlayerDisplays() {
-        for (Entity entity : session.getEntityCache().getEntities().values()) {
-            if (entity instanceof PlayerEntity player) {
-                Team playerTeam = session.getWorldCache().getScoreboard().getTeamFor(player.getUsername());
+        for (List<PlayerEntity> players : session.getEntityCache().getCachedPlayerEntities()) {
+            for (PlayerEntity player : players) {
+                Team playerTeam = getTeamFor(player.getUsername());
                 player.updateDisplayName(playerTeam);
                 player.updateBedrockMetadata();
             }
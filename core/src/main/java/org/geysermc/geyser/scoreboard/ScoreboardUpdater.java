@@ -25,18 +25,17 @@
 
 package org.geysermc.geyser.scoreboard;
 
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.configuration.GeyserConfiguration;
 import org.geysermc.geyser.session.GeyserSession;
-import org.geysermc.geyser.session.cache.WorldCache;
 import org.geysermc.geyser.text.GeyserLocale;
 
-import java.util.Collection;
-import java.util.concurrent.atomic.AtomicInteger;
-
-public final class ScoreboardUpdater extends Thread {
+/**
+ * Rate limits scoreboard updates for a single session. Lives on the session's event loop, so no synchronization
+ * is needed: scoreboard translators call {@link #update(int)} after changing the scoreboard, and the session tick
+ * flushes any changes that were held back.
+ */
+public final class ScoreboardUpdater {
     public static final int FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD;
     public static final int SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD = 250;
 
@@ -51,132 +50,93 @@ public final class ScoreboardUpdater extends Thread {
         DEBUG_ENABLED = config.isDebugMode();
     }
 
-    private final GeyserImpl geyser = GeyserImpl.getInstance();
+    private final GeyserSession session;
 
-    private long lastUpdate = System.currentTimeMillis();
+    private int pendingPacketsPerSecond;
+    private int packetsPerSecond;
     private long lastPacketsPerSecondUpdate = System.currentTimeMillis();
+    private long lastUpdate;
+    private long lastLog;
+    /**
+     * If the scoreboard has changes that haven't been sent to the client yet.
+     */
+    private boolean dirty;
+
+    public ScoreboardUpdater(GeyserSession session) {
+        this.session = session;
+    }
 
-    public static void init() {
-        new ScoreboardUpdater().start();
+    /**
+     * @return the scoreboard packets per second, including the packet currently being handled
+     */
+    public int increaseAndGetPacketsPerSecond() {
+        return Math.max(packetsPerSecond, ++pendingPacketsPerSecond);
     }
 
-    @Override
-    public void run() {
-        while (!geyser.isShuttingDown() && !geyser.isReloading()) {
-            try {
-                long timeTillAction = getTimeTillNextAction();
-                if (timeTillAction > 0) {
-                    sleepFor(timeTillAction);
-                    continue;
-                }
-
-                long currentTime = System.currentTimeMillis();
-
-                // reset score-packets per second every second
-                Collection<GeyserSession> sessions = geyser.getSessionManager().getSessions().values();
-                if (currentTime - lastPacketsPerSecondUpdate >= 1000) {
-                    lastPacketsPerSecondUpdate = currentTime;
-                    for (GeyserSession session : sessions) {
-                        ScoreboardSession scoreboardSession = session.getWorldCache().getScoreboardSession();
-
-                        int oldPps = scoreboardSession.getPacketsPerSecond();
-                        int newPps = scoreboardSession.getPendingPacketsPerSecond().get();
-
-                        scoreboardSession.packetsPerSecond = newPps;
-                        scoreboardSession.pendingPacketsPerSecond.set(0);
-
-                        // just making sure that all updates are pushed before giving up control
-                        if (oldPps >= FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD &&
-                                newPps < FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-                            session.getWorldCache().getScoreboard().onUpdate();
-                        }
-                    }
-                }
-
-                if (currentTime - lastUpdate >= FIRST_MILLIS_BETWEEN_UPDATES) {
-                    lastUpdate = currentTime;
-
-                    for (GeyserSession session : sessions) {
-                        WorldCache worldCache = session.getWorldCache();
-                        ScoreboardSession scoreboardSession = worldCache.getScoreboardSession();
-
-                        int pps = scoreboardSession.getPacketsPerSecond();
-                        if (pps >= FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-                            boolean reachedSecondThreshold = pps >= SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD;
-
-                            int millisBetweenUpdates = reachedSecondThreshold ?
-                                    SECOND_MILLIS_BETWEEN_UPDATES :
-                                    FIRST_MILLIS_BETWEEN_UPDATES;
-
-                            if (currentTime - scoreboardSession.lastUpdate >= millisBetweenUpdates) {
-                                worldCache.getScoreboard().onUpdate();
-                                scoreboardSession.lastUpdate = currentTime;
-
-                                if (DEBUG_ENABLED && (currentTime - scoreboardSession.lastLog >= 60000)) { // one minute
-                                    int threshold = reachedSecondThreshold ?
-                                            SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD :
-                                            FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD;
-
-                                    geyser.getLogger().info(
-                                            GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached.log", session.bedrockUsername(), threshold, pps) +
-                                                    GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached", (millisBetweenUpdates / 1000.0))
-                                    );
-
-                                    scoreboardSession.lastLog = currentTime;
-                                }
-                            }
-                        }
-                    }
-                }
-
-                if (DEBUG_ENABLED) {
-                    long timeSpent = System.currentTimeMillis() - currentTime;
-                    if (timeSpent > 0) {
-                        geyser.getLogger().info(String.format(
-                                "Scoreboard updater: took %s ms. Updated %s players",
-                                timeSpent, sessions.size()
-                        ));
-                    }
-                }
-
-                long timeTillNextAction = getTimeTillNextAction();
-                sleepFor(timeTillNextAction);
-            } catch (Throwable e) {
-                geyser.getLogger().error("Error while translating scoreboard information!", e);
-                // Wait so we don't try to run the scoreboard immediately after this
-                sleepFor(FIRST_MILLIS_BETWEEN_UPDATES);
-            }
+    /**
+     * Sends the scoreboard changes now, or holds them back until the next allowed update
+     * if the Java server is sending a lot of scoreboard packets.
+     *
+     * @param pps the value of {@link #increaseAndGetPacketsPerSecond()} for this packet
+     */
+    public void update(int pps) {
+        if (pps < FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
+            flush(System.currentTimeMillis());
+        } else {
+            dirty = true;
         }
     }
 
-    private long getTimeTillNextAction() {
+    /**
+     * Called every session tick.
+     */
+    public void tick() {
         long currentTime = System.currentTimeMillis();
 
-        long timeUntilNextUpdate = FIRST_MILLIS_BETWEEN_UPDATES - (currentTime - lastUpdate);
-        long timeUntilPacketReset = 1000 - (currentTime - lastPacketsPerSecondUpdate);
+        // reset score-packets per second every second
+        if (currentTime - lastPacketsPerSecondUpdate >= 1000) {
+            lastPacketsPerSecondUpdate = currentTime;
+            packetsPerSecond = pendingPacketsPerSecond;
+            pendingPacketsPerSecond = 0;
+        }
 
-        return Math.min(timeUntilNextUpdate, timeUntilPacketReset);
-    }
+        if (!dirty) {
+            return;
+        }
 
-    private void sleepFor(long millis) {
-        if (millis <= 0) {
+        int pps = packetsPerSecond;
+        if (pps < FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
+            // just making sure that all updates are pushed before giving up control
+            flush(currentTime);
             return;
         }
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+
+        boolean reachedSecondThreshold = pps >= SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD;
+        int millisBetweenUpdates = reachedSecondThreshold ?
+                SECOND_MILLIS_BETWEEN_UPDATES :
+                FIRST_MILLIS_BETWEEN_UPDATES;
+
+        if (currentTime - lastUpdate >= millisBetweenUpdates) {
+            flush(currentTime);
+
+            if (DEBUG_ENABLED && (currentTime - lastLog >= 60000)) { // one minute
+                int threshold = reachedSecondThreshold ?
+                        SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD :
+                        FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD;
+
+                session.getGeyser().getLogger().info(
+                        GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached.log", session.bedrockUsername(), threshold, pps) +
+                                GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached", (millisBetweenUpdates / 1000.0))
+                );
+
+                lastLog = currentTime;
+            }
         }
     }
 
-    @RequiredArgsConstructor
-    @Getter
-    public static final class ScoreboardSession {
-        private final GeyserSession session;
-        @SuppressWarnings("WriteOnlyObject")
-        private final AtomicInteger pendingPacketsPerSecond = new AtomicInteger(0);
-        private int packetsPerSecond;
-        private long lastUpdate;
-        private long lastLog;
+    private void flush(long currentTime) {
+        dirty = false;
+        lastUpdate = currentTime;
+        session.getWorldCache().getScoreboard().onUpdate();
     }
 }
@@ -87,6 +87,7 @@ public final class Team {
                 Score score = objective.getScores().get(addedEntity);
                 if (score != null) {
                     score.setTeam(this);
+                    objective.markDirty(addedEntity);
                 }
             }
         }
@@ -102,6 +103,8 @@ public final class Team {
         for (String name : names) {
             if (entities.remove(name)) {
                 removed.add(name);
+                // The score of this entity needs to lose its team
+                scoreboard.markScoresDirty(name);
             }
             scoreboard.getPlayerToTeam().remove(name, this);
         }
@@ -158,6 +161,7 @@ public final class Team {
             return;
         }
         updating = true;
+        scoreboard.teamUpdating(this);
 
         if (cachedData == null) {
             cachedData = new TeamData();
@@ -183,6 +187,7 @@ public final class Team {
     public Team setUpdateType(UpdateType updateType) {
         if (updateType != UpdateType.NOTHING) {
             currentData.changed = true;
+            scoreboard.markDirty(this);
         }
         currentData.updateType = updateType;
         return this;
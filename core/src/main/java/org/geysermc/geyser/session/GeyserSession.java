@@ -151,12 +151,18 @@ import org.geysermc.geyser.session.auth.AuthData;
 import org.geysermc.geyser.session.auth.BedrockClientData;
 import org.geysermc.geyser.session.cache.AdvancementsCache;
 import org.geysermc.geyser.session.cache.BookEditCache;
+import org.geysermc.geyser.session.cache.ChunkBatchSizeCalculator;
 import org.geysermc.geyser.session.cache.ChunkCache;
 import org.geysermc.geyser.session.cache.EntityCache;
 import org.geysermc.geyser.session.cache.EntityEffectCache;
 import org.geysermc.geyser.session.cache.FormCache;
+import org.geysermc.geyser.session.cache.InventoryContentCache;
+import org.geysermc.geyser.session.cache.ItemTranslationCache;
 import org.geysermc.geyser.session.cache.LodestoneCache;
+import org.geysermc.geyser.session.cache.MapDataQueue;
+import org.geysermc.geyser.session.cache.ParticleBudget;
 import org.geysermc.geyser.session.cache.PistonCache;
+import org.geysermc.geyser.session.cache.PlayerListQueue;
 import org.geysermc.geyser.session.cache.PreferencesCache;
 import org.geysermc.geyser.session.cache.RegistryCache;
 import org.geysermc.geyser.session.cache.SkullCache;
@@ -268,12 +274,18 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
 
     private final AdvancementsCache advancementsCache;
     private final BookEditCache bookEditCache;
+    private final ChunkBatchSizeCalculator chunkBatchSizeCalculator;
     private final ChunkCache chunkCache;
     private final EntityCache entityCache;
     private final EntityEffectCache effectCache;
     private final FormCache formCache;
+    private final InventoryContentCache inventoryContentCache;
+    private final ItemTranslationCache itemTranslationCache;
     private final LodestoneCache lodestoneCache;
+    private final MapDataQueue mapDataQueue;
+    private final ParticleBudget particleBudget;
     private final PistonCache pistonCache;
+    private final PlayerListQueue playerListQueue;
     private final PreferencesCache preferencesCache;
     private final RegistryCache registryCache;
     private final SkullCache skullCache;
@@ -661,12 +673,18 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
 
         this.advancementsCache = new AdvancementsCache(this);
         this.bookEditCache = new BookEditCache(this);
+        this.chunkBatchSizeCalculator = new ChunkBatchSizeCalculator();
         this.chunkCache = new ChunkCache(this);
         this.entityCache = new EntityCache(this);
         this.effectCache = new EntityEffectCache();
         this.formCache = new FormCache(this);
+        this.inventoryContentCache = new InventoryContentCache(this);
+        this.itemTranslationCache = new ItemTranslationCache(this);
         this.lodestoneCache = new LodestoneCache();
+        this.mapDataQueue = new MapDataQueue(this);
+        this.particleBudget = new ParticleBudget(this);
         this.pistonCache = new PistonCache(this);
+        this.playerListQueue = new PlayerListQueue(this);
         this.preferencesCache = new PreferencesCache(this);
         this.registryCache = new RegistryCache(this);
         this.skullCache = new SkullCache(this);
@@ -1061,13 +1079,13 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
 
                 // Let the user know there locale may take some time to download
                 // as it has to be extracted from a JAR
-                if (locale.equalsIgnoreCase("en_us") && !MinecraftLocale.LOCALE_MAPPINGS.containsKey("en_us")) {
+                if (locale.equalsIgnoreCase("en_us") && !MinecraftLocale.isLocaleLoaded("en_us")) {
                     // This should probably be left hardcoded as it will only show for en_us clients
                     sendMessage("Loading your locale (en_us); if this isn't already downloaded, this may take some time");
                 }
 
-                // Download and load the language for the player
-                MinecraftLocale.downloadAndLoadLocale(locale);
+                // Download and load the language for the player, without holding up the login
+                MinecraftLocale.downloadAndLoadLocaleAsync(locale);
             }
 
             @Override
@@ -1241,7 +1259,12 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      */
     protected void tick() {
         try {
+            upstream.checkBundleTimeout();
+            particleBudget.tick();
             pistonCache.tick();
+            worldCache.getScoreboardUpdater().tick();
+            mapDataQueue.tick();
+            playerListQueue.tick();
             // Check to see if the player's position needs updating - a position update should be sent once every 3 seconds
             if (spawned && (System.currentTimeMillis() - lastMovementTimestamp) > 3000) {
                 // Recalculate in case something else changed position
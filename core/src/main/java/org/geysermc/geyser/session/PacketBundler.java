@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Holds back packets sent from one thread so they can be written to the Bedrock client as one batch.
+ * Packets sent from any other thread are left alone.
+ *
+ * @param <T> the packet type
+ */
+final class PacketBundler<T> {
+    private final int maxPackets;
+    /**
+     * Writes the held packets in order, as one batch. The list is reused once this returns.
+     */
+    private final Consumer<List<T>> writer;
+
+    private List<T> held;
+    private Thread thread;
+    private long startTime;
+
+    PacketBundler(int maxPackets, Consumer<List<T>> writer) {
+        this.maxPackets = maxPackets;
+        this.writer = writer;
+    }
+
+    /**
+     * Hold back packets sent from the current thread until {@link #stop()} is called.
+     */
+    void start(long now) {
+        held = new ArrayList<>();
+        thread = Thread.currentThread();
+        startTime = now;
+    }
+
+    boolean isTimedOut(long now, long maxMillis) {
+        return thread != null && now - startTime > maxMillis;
+    }
+
+    /**
+     * @return true if the packet was held back, false if it should be sent as normal
+     */
+    boolean hold(T packet) {
+        if (Thread.currentThread() != thread) {
+            return false;
+        }
+        held.add(packet);
+        if (held.size() >= maxPackets) {
+            write();
+        }
+        return true;
+    }
+
+    /**
+     * Like {@link #hold(Object)}, but writes the packet along with everything held before it right away,
+     * so it can't overtake them.
+     */
+    boolean holdAndWrite(T packet) {
+        if (Thread.currentThread() != thread) {
+            return false;
+        }
+        held.add(packet);
+        write();
+        return true;
+    }
+
+    /**
+     * Writes everything held and stops holding packets back.
+     */
+    void stop() {
+        if (thread == null) {
+            return;
+        }
+        write();
+        thread = null;
+        held = null;
+    }
+
+    private void write() {
+        if (held.isEmpty()) {
+            return;
+        }
+        writer.accept(held);
+        held.clear();
+    }
+}
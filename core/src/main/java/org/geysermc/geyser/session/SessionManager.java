@@ -32,6 +32,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.geysermc.geyser.text.GeyserLocale;
 
+import java.net.InetSocketAddress;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -47,47 +48,102 @@ public final class SessionManager {
     @Getter
     private final Map<UUID, GeyserSession> sessions = new ConcurrentHashMap<>();
 
+    /*
+     * Secondary indexes over the in-game sessions; maintained alongside {@link #sessions}.
+     * Usernames are stored lowercase.
+     */
+    private final Map<String, GeyserSession> sessionsByXuid = new ConcurrentHashMap<>();
+    private final Map<String, GeyserSession> sessionsByBedrockUsername = new ConcurrentHashMap<>();
+    private final Map<String, GeyserSession> sessionsByJavaUsername = new ConcurrentHashMap<>();
+    private final Map<InetSocketAddress, GeyserSession> sessionsByAddress = new ConcurrentHashMap<>();
+
+    /**
+     * An immutable copy of all pending and active sessions, rebuilt whenever a session is added or removed.
+     * Sessions join and leave far less often than they are iterated over.
+     */
+    private volatile List<GeyserSession> allSessions = List.of();
+
     /**
      * Called once the player has successfully authenticated to the Geyser server.
      */
-    public void addPendingSession(GeyserSession session) {
+    public synchronized void addPendingSession(GeyserSession session) {
         pendingSessions.add(session);
+        updateSnapshot();
     }
 
     /**
      * Called once a player has successfully logged into their Java server.
      */
-    public void addSession(UUID uuid, GeyserSession session) {
+    public synchronized void addSession(UUID uuid, GeyserSession session) {
         pendingSessions.remove(session);
         sessions.put(uuid, session);
+
+        sessionsByXuid.put(session.xuid(), session);
+        sessionsByBedrockUsername.put(toKey(session.bedrockUsername()), session);
+        String javaUsername = session.javaUsername();
+        if (javaUsername != null) {
+            sessionsByJavaUsername.put(toKey(javaUsername), session);
+        }
+        InetSocketAddress address = session.getSocketAddress();
+        if (address != null) {
+            sessionsByAddress.put(address, session);
+        }
+        updateSnapshot();
     }
 
-    public void removeSession(GeyserSession session) {
+    public synchronized void removeSession(GeyserSession session) {
         UUID uuid = session.getPlayerEntity().getUuid();
         if (uuid == null || sessions.remove(uuid) == null) {
             // Connection was likely pending
             pendingSessions.remove(session);
+        } else {
+            // Only remove index entries that still point to this session
+            sessionsByXuid.remove(session.xuid(), session);
+            sessionsByBedrockUsername.remove(toKey(session.bedrockUsername()), session);
+            String javaUsername = session.javaUsername();
+            if (javaUsername != null) {
+                sessionsByJavaUsername.remove(toKey(javaUsername), session);
+            }
+            InetSocketAddress address = session.getSocketAddress();
+            if (address != null) {
+                sessionsByAddress.remove(address, session);
+            }
         }
+        updateSnapshot();
     }
 
     public @Nullable GeyserSession sessionByXuid(@NonNull String xuid) {
         Objects.requireNonNull(xuid);
-        for (GeyserSession session : sessions.values()) {
-            if (session.xuid().equals(xuid)) {
-                return session;
-            }
-        }
-        return null;
+        return sessionsByXuid.get(xuid);
+    }
+
+    /**
+     * @return the in-game session with this Bedrock username, ignoring case.
+     */
+    public @Nullable GeyserSession sessionByBedrockUsername(@NonNull String username) {
+        Objects.requireNonNull(username);
+        return sessionsByBedrockUsername.get(toKey(username));
     }
 
     /**
-     * Creates a new, immutable list containing all pending and active sessions.
+     * @return the in-game session with this Java username, ignoring case.
+     */
+    public @Nullable GeyserSession sessionByJavaUsername(@NonNull String username) {
+        Objects.requireNonNull(username);
+        return sessionsByJavaUsername.get(toKey(username));
+    }
+
+    public @Nullable GeyserSession sessionByAddress(@NonNull InetSocketAddress address) {
+        Objects.requireNonNull(address);
+        return sessionsByAddress.get(address);
+    }
+
+    /**
+     * Returns an immutable list containing all pending and active sessions. This list is shared, so it is cheap
+     * to call frequently, but it will not reflect sessions that join or leave after this call.
      */
     public List<GeyserSession> getAllSessions() {
-        return ImmutableList.<GeyserSession>builder() // builderWithExpectedSize is probably not a good idea yet as older Spigot builds probably won't have it.
-                .addAll(pendingSessions)
-                .addAll(sessions.values())
-                .build();
+        return allSessions;
     }
 
     public void disconnectAll(String message) {
@@ -103,4 +159,15 @@ public final class SessionManager {
     public int size() {
         return pendingSessions.size() + sessions.size();
     }
+
+    private void updateSnapshot() {
+        this.allSessions = ImmutableList.<GeyserSession>builder() // builderWithExpectedSize is probably not a good idea yet as older Spigot builds probably won't have it.
+                .addAll(pendingSessions)
+                .addAll(sessions.values())
+                .build();
+    }
+
+    private static String toKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
 }
@@ -36,27 +36,97 @@ import org.geysermc.geyser.network.GeyserBedrockPeer;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayDeque;
+import java.util.List;
 import java.util.Queue;
 
 @RequiredArgsConstructor
 public class UpstreamSession {
+    /**
+     * Same as the vanilla Java client's limit for packets in one bundle.
+     */
+    private static final int MAX_BUNDLE_PACKETS = 4096;
+    /**
+     * If a bundle isn't closed after this long, stop holding packets back.
+     */
+    private static final long MAX_BUNDLE_MILLIS = 100;
+
     @Getter private final BedrockServerSession session;
     @Getter @Setter
     private boolean initialized = false;
     private Queue<BedrockPacket> postStartGamePackets = new ArrayDeque<>();
 
+    /**
+     * Packets held back while the Java server is sending a bundle, so they reach the Bedrock client in the same batch.
+     * Only packets sent from the thread that opened the bundle are held; anything else goes out as normal.
+     */
+    private final PacketBundler<BedrockPacket> bundler = new PacketBundler<>(MAX_BUNDLE_PACKETS, this::sendBatch);
+    /**
+     * If the Java server has opened a bundle and not closed it yet. Stays true if we stop holding packets early.
+     */
+    private boolean bundling;
+
     public void sendPacket(@NonNull BedrockPacket packet) {
         if (!isClosed()) {
+            if (bundler.hold(packet)) {
+                return;
+            }
             session.sendPacket(packet);
         }
     }
 
     public void sendPacketImmediately(@NonNull BedrockPacket packet) {
         if (!isClosed()) {
+            // Don't let this overtake anything already held back
+            if (bundler.holdAndWrite(packet)) {
+                return;
+            }
             session.sendPacketImmediately(packet);
         }
     }
 
+    public boolean isBundling() {
+        return bundling;
+    }
+
+    /**
+     * Hold back packets sent from the current thread until {@link #endBundle()} is called.
+     */
+    public void startBundle() {
+        if (bundling) {
+            return;
+        }
+        bundling = true;
+        bundler.start(System.currentTimeMillis());
+    }
+
+    /**
+     * Send everything held back since {@link #startBundle()} as one batch.
+     */
+    public void endBundle() {
+        bundling = false;
+        bundler.stop();
+    }
+
+    /**
+     * Stops holding packets back if the Java server has left its bundle open for too long.
+     */
+    public void checkBundleTimeout() {
+        if (bundler.isTimedOut(System.currentTimeMillis(), MAX_BUNDLE_MILLIS)) {
+            bundler.stop();
+        }
+    }
+
+    private void sendBatch(List<BedrockPacket> packets) {
+        if (isClosed()) {
+            return;
+        }
+        for (BedrockPacket packet : packets) {
+            session.sendPacket(packet);
+        }
+        // Write everything queued above in one batch now, rather than on the peer's next tick
+        session.getPeer().flush();
+    }
+
     public void disconnect(String reason) {
         this.session.disconnect(reason);
     }
@@ -84,6 +154,13 @@ public class UpstreamSession {
         return !session.getPeer().isConnected() && !session.getPeer().isConnecting();
     }
 
+    /**
+     * @return true if the Bedrock connection has more waiting to be written than it can currently take.
+     */
+    public boolean isBacklogged() {
+        return !session.getPeer().getChannel().isWritable();
+    }
+
     public InetSocketAddress getAddress() {
         // Will always be an InetSocketAddress. See ProxyChannel#remoteAddress
         return (InetSocketAddress) ((GeyserBedrockPeer) session.getPeer()).getRealAddress();
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+/**
+ * Works out how many chunks per tick the Java server should send us, based on the vanilla client's ChunkBatchSizeCalculator.
+ * <p>
+ * The time between a batch starting and finishing covers both the server sending the chunks and Geyser translating
+ * them, since both happen on the session's event loop. On top of that, a batch that finishes while the Bedrock
+ * connection is still backed up counts as slower than it was - the Bedrock client can't keep up, even if we can.
+ */
+public final class ChunkBatchSizeCalculator {
+    /**
+     * Vanilla aims for chunk processing to take up 7ms of every tick.
+     */
+    private static final double TARGET_NANOS_PER_TICK = 7_000_000.0;
+    private static final double INITIAL_NANOS_PER_CHUNK = 2_000_000.0;
+    private static final int MAX_OLD_SAMPLES_WEIGHT = 49;
+    /**
+     * A single sample can't move the estimate by more than this factor either way.
+     */
+    private static final double CLAMP_COEFFICIENT = 3.0;
+    private static final double BACKLOG_PENALTY = 2.0;
+    /**
+     * The server clamps the value between these.
+     */
+    private static final float MIN_CHUNKS_PER_TICK = 0.01f;
+    private static final float MAX_CHUNKS_PER_TICK = 64f;
+
+    private double aggregatedNanosPerChunk = INITIAL_NANOS_PER_CHUNK;
+    private int oldSamplesWeight = 1;
+    private long batchStartTime = -1;
+
+    public void onBatchStart(long nanoTime) {
+        this.batchStartTime = nanoTime;
+    }
+
+    /**
+     * @param nanoTime the current {@link System#nanoTime()}
+     * @param batchSize how many chunks the server said it sent in this batch
+     * @param upstreamBacklogged if the Bedrock connection still has more queued than it can send right now
+     */
+    public void onBatchFinished(long nanoTime, int batchSize, boolean upstreamBacklogged) {
+        long startTime = this.batchStartTime;
+        // Every finish closes the batch, so a later finish without a start isn't timed from this one
+        this.batchStartTime = -1;
+        if (batchSize <= 0 || startTime == -1) {
+            return;
+        }
+
+        double nanosPerChunk = (double) (nanoTime - startTime) / batchSize;
+        if (upstreamBacklogged) {
+            nanosPerChunk *= BACKLOG_PENALTY;
+        }
+        nanosPerChunk = Math.max(this.aggregatedNanosPerChunk / CLAMP_COEFFICIENT, Math.min(nanosPerChunk, this.aggregatedNanosPerChunk * CLAMP_COEFFICIENT));
+
+        this.aggregatedNanosPerChunk = (this.aggregatedNanosPerChunk * this.oldSamplesWeight + nanosPerChunk) / (this.oldSamplesWeight + 1);
+        this.oldSamplesWeight = Math.min(MAX_OLD_SAMPLES_WEIGHT, this.oldSamplesWeight + 1);
+    }
+
+    public float getDesiredChunksPerTick() {
+        float chunksPerTick = (float) (TARGET_NANOS_PER_TICK / this.aggregatedNanosPerChunk);
+        return Math.max(MIN_CHUNKS_PER_TICK, Math.min(chunksPerTick, MAX_CHUNKS_PER_TICK));
+    }
+}
@@ -28,6 +28,7 @@ package org.geysermc.geyser.session.cache;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import lombok.Setter;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.geyser.level.chunk.GeyserChunk;
 import org.geysermc.geyser.session.GeyserSession;
@@ -121,6 +122,67 @@ public class ChunkCache {
         return Block.JAVA_AIR_ID;
     }
 
+    /**
+     * Reads every block covered by the iterator into an array, indexed by {@link BlockPositionIterator#getIteration()}.
+     * The last few chunk columns are remembered, so a box covering up to four columns only looks each one up once,
+     * even though the iterator goes back and forth between them.
+     */
+    public void getBlocksAt(BlockPositionIterator iter, int[] blocks) {
+        if (!cache) {
+            for (; iter.hasNext(); iter.next()) {
+                blocks[iter.getIteration()] = Block.JAVA_AIR_ID;
+            }
+            return;
+        }
+
+        // The iterator steps through x fastest, so a box straddling a chunk border switches columns on every step.
+        // Remember the last few columns looked up - a collision box rarely covers more than four.
+        long[] columnKeys = new long[4];
+        GeyserChunk[] columns = new GeyserChunk[4];
+        int columnCount = 0;
+        int nextColumnSlot = 0;
+        long lastKey = 0;
+        GeyserChunk column = null;
+        boolean hasColumn = false;
+
+        for (; iter.hasNext(); iter.next()) {
+            int x = iter.getX();
+            int y = iter.getY();
+            int z = iter.getZ();
+
+            long key = MathUtils.chunkPositionToLong(x >> 4, z >> 4);
+            if (!hasColumn || key != lastKey) {
+                int i = 0;
+                while (i < columnCount && columnKeys[i] != key) {
+                    i++;
+                }
+                if (i < columnCount) {
+                    column = columns[i];
+                } else {
+                    column = this.getChunk(x >> 4, z >> 4);
+                    columnKeys[nextColumnSlot] = key;
+                    columns[nextColumnSlot] = column;
+                    nextColumnSlot = (nextColumnSlot + 1) % columns.length;
+                    columnCount = Math.min(columnCount + 1, columns.length);
+                }
+                lastKey = key;
+                hasColumn = true;
+            }
+
+            int block = Block.JAVA_AIR_ID;
+            if (column != null && y >= minY) {
+                int index = (y - minY) >> 4;
+                if (index < column.sections().length) {
+                    DataPalette section = column.sections()[index];
+                    if (section != null) {
+                        block = section.get(x & 0xF, y & 0xF, z & 0xF);
+                    }
+                }
+            }
+            blocks[iter.getIteration()] = block;
+        }
+    }
+
     public void removeChunk(int chunkX, int chunkZ) {
         if (!cache) {
             return;
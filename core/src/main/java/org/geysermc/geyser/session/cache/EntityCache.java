@@ -55,6 +55,11 @@ public class EntityCache {
     private final List<Tickable> tickableEntities = new ObjectArrayList<>();
     private final Int2LongMap entityIdTranslations = new Int2LongOpenHashMap();
     private final Map<UUID, PlayerEntity> playerEntities = new Object2ObjectOpenHashMap<>();
+    /**
+     * Cached player entities by username, so scoreboard team changes don't need to look through every entity.
+     * Multiple entities can share a username (e.g. NPCs).
+     */
+    private final Map<String, List<PlayerEntity>> playersByUsername = new Object2ObjectOpenHashMap<>();
     private final Map<UUID, BossBar> bossBars = new Object2ObjectOpenHashMap<>();
 
     @Getter
@@ -80,6 +85,9 @@ public class EntityCache {
         if (!entityIdTranslations.containsKey(entity.getEntityId())) {
             entityIdTranslations.put(entity.getEntityId(), entity.getGeyserId());
             entities.put(entity.getGeyserId(), entity);
+            if (entity instanceof PlayerEntity player) {
+                indexUsername(player, player.getUsername());
+            }
             return true;
         }
         return false;
@@ -96,7 +104,10 @@ public class EntityCache {
             }
 
             long geyserId = entityIdTranslations.remove(entity.getEntityId());
-            entities.remove(geyserId);
+            Entity removed = entities.remove(geyserId);
+            if (removed instanceof PlayerEntity player) {
+                unindexUsername(player, player.getUsername());
+            }
 
             if (entity instanceof Tickable) {
                 tickableEntities.remove(entity);
@@ -124,6 +135,47 @@ public class EntityCache {
         return entities.get(entityIdTranslations.get(javaId));
     }
 
+    /**
+     * @return all cached player entities with this username. Should not be modified.
+     */
+    public List<PlayerEntity> getPlayerEntitiesByUsername(String username) {
+        List<PlayerEntity> players = playersByUsername.get(username);
+        return players == null ? Collections.emptyList() : players;
+    }
+
+    /**
+     * @return all cached player entities, excluding the session's own player entity.
+     */
+    public Collection<List<PlayerEntity>> getCachedPlayerEntities() {
+        return playersByUsername.values();
+    }
+
+    /**
+     * Should be called when the username of a player entity changes.
+     */
+    public void updatePlayerUsername(PlayerEntity player, String oldUsername) {
+        if (entities.get(player.getGeyserId()) == player) {
+            unindexUsername(player, oldUsername);
+            indexUsername(player, player.getUsername());
+        }
+    }
+
+    private void indexUsername(PlayerEntity player, String username) {
+        if (username != null) {
+            playersByUsername.computeIfAbsent(username, $ -> new ObjectArrayList<>(1)).add(player);
+        }
+    }
+
+    private void unindexUsername(PlayerEntity player, String username) {
+        if (username == null) {
+            return;
+        }
+        List<PlayerEntity> players = playersByUsername.get(username);
+        if (players != null && players.remove(player) && players.isEmpty()) {
+            playersByUsername.remove(username);
+        }
+    }
+
     public void addPlayerEntity(PlayerEntity entity) {
         // putIfAbsent matches the behavior of playerInfoMap in Java as of 1.19.3
         playerEntities.putIfAbsent(entity.getUuid(), entity);
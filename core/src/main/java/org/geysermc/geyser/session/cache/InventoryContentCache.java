@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
+import org.cloudburstmc.protocol.bedrock.packet.InventoryContentPacket;
+import org.cloudburstmc.protocol.bedrock.packet.InventorySlotPacket;
+import org.geysermc.geyser.session.GeyserSession;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Keeps track of the last item data sent to the Bedrock client for each container, so that repeated
+ * content updates from the Java server (e.g. GUI menus refreshing every second) only send the slots that changed.
+ * <p>
+ * The Bedrock client predicts its own inventory changes, so anything the client does to its inventory
+ * must {@link #invalidate(int)} the containers it touched - otherwise a resync from the server could be skipped.
+ */
+public final class InventoryContentCache {
+    private final GeyserSession session;
+    /**
+     * Bedrock container ID to the contents last sent for that container.
+     */
+    private final Int2ObjectMap<ItemData[]> lastSent = new Int2ObjectOpenHashMap<>();
+
+    public InventoryContentCache(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Sends the contents of a container, or only the slots that differ from what the client was last sent.
+     *
+     * @param contents the new contents of this container. This array should not be modified afterwards.
+     */
+    public void sendContents(int containerId, ItemData[] contents) {
+        ItemData[] previous = lastSent.put(containerId, contents);
+        if (previous == null || previous.length != contents.length) {
+            sendFullContents(containerId, contents);
+            return;
+        }
+
+        int changed = 0;
+        for (int i = 0; i < contents.length; i++) {
+            if (!Objects.equals(contents[i], previous[i])) {
+                changed++;
+            }
+        }
+
+        if (changed == 0) {
+            return;
+        }
+
+        // If a large part of the container changed, one content packet is cheaper than many slot packets
+        if (changed > Math.max(1, contents.length / 4)) {
+            sendFullContents(containerId, contents);
+            return;
+        }
+
+        for (int i = 0; i < contents.length; i++) {
+            if (!Objects.equals(contents[i], previous[i])) {
+                sendSlotPacket(containerId, i, contents[i]);
+            }
+        }
+    }
+
+    /**
+     * Sends a single slot of a container, keeping the tracked contents up-to-date.
+     */
+    public void sendSlot(int containerId, int slot, ItemData item) {
+        ItemData[] contents = lastSent.get(containerId);
+        // Slots outside the tracked range (e.g. the crafter result slot) aren't part of the content packet
+        if (contents != null && slot >= 0 && slot < contents.length) {
+            // Copy - the previous array may still be referenced by a queued content packet
+            contents = Arrays.copyOf(contents, contents.length);
+            contents[slot] = item;
+            lastSent.put(containerId, contents);
+        }
+        sendSlotPacket(containerId, slot, item);
+    }
+
+    /**
+     * Forget what was sent for one container; the next content update for it will be sent in full.
+     */
+    public void invalidate(int containerId) {
+        lastSent.remove(containerId);
+    }
+
+    /**
+     * Forget everything that was sent; the next content update for each container will be sent in full.
+     */
+    public void invalidate() {
+        lastSent.clear();
+    }
+
+    private void sendFullContents(int containerId, ItemData[] contents) {
+        InventoryContentPacket contentPacket = new InventoryContentPacket();
+        contentPacket.setContainerId(containerId);
+        contentPacket.setContents(Arrays.asList(contents));
+        session.sendUpstreamPacket(contentPacket);
+    }
+
+    private void sendSlotPacket(int containerId, int slot, ItemData item) {
+        InventorySlotPacket slotPacket = new InventorySlotPacket();
+        slotPacket.setContainerId(containerId);
+        slotPacket.setSlot(slot);
+        slotPacket.setItem(item);
+        session.sendUpstreamPacket(slotPacket);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.text.MinecraftLocale;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponent;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponentType;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.ItemCodecHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers the result of translating a Java item into Bedrock item data, so identical stacks
+ * (the same sword in every hotbar slot, a chest full of the same block) only go through
+ * {@link org.geysermc.geyser.translator.item.ItemTranslator} once.
+ * <p>
+ * Entries are independent of the stack count; the count is patched in by the caller on a cache hit.
+ * Components are keyed on their network encoding, since they are mutable and not all of them compare by value.
+ * This cache is per-session since translation depends on the registries the Java server sent us
+ * (enchantments, trims, banner patterns) as well as the session's item mappings.
+ */
+public final class ItemTranslationCache {
+    /**
+     * Item data is small, but components can be large (books, lore) - keep this bounded.
+     */
+    private static final int MAX_ENTRIES = 512;
+
+    private final GeyserSession session;
+    private final Cache<CacheKey, ItemData> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .build();
+
+    public ItemTranslationCache(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * @return the cached translation for this item, with an undefined count, or null if none exists yet.
+     */
+    public @Nullable ItemData get(int javaId, @Nullable DataComponents components) {
+        CacheKey key = key(javaId, components, session.locale(), session.isAdvancedTooltips());
+        return key == null ? null : cache.getIfPresent(key);
+    }
+
+    public void put(int javaId, @Nullable DataComponents components, ItemData itemData) {
+        if (!MinecraftLocale.isLocaleLoaded(session.locale())) {
+            // Until the session's locale has loaded, names are translated with the default locale
+            return;
+        }
+        CacheKey key = key(javaId, components, session.locale(), session.isAdvancedTooltips());
+        if (key != null) {
+            cache.put(key, itemData);
+        }
+    }
+
+    /**
+     * Should be called whenever anything that the translation depends on, other than the item itself, changes.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return the key for this item, or null if it must always go through a full translation
+     */
+    static @Nullable CacheKey key(int javaId, @Nullable DataComponents components, String locale, boolean advancedTooltips) {
+        if (components == null || components.getDataComponents().isEmpty()) {
+            return new CacheKey(javaId, null, locale, advancedTooltips);
+        }
+        // Lodestone compasses register a tracking handle with the session when translated
+        if (components.getDataComponents().containsKey(DataComponentType.LODESTONE_TRACKER)) {
+            return null;
+        }
+
+        // Sorted so the order components were added in doesn't matter
+        List<Map.Entry<DataComponentType<?>, DataComponent<?, ?>>> entries = new ArrayList<>(components.getDataComponents().entrySet());
+        entries.sort(Comparator.comparingInt(entry -> entry.getKey().getId()));
+
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            for (Map.Entry<DataComponentType<?>, DataComponent<?, ?>> entry : entries) {
+                buf.writeInt(entry.getKey().getId());
+                DataComponent<?, ?> value = entry.getValue();
+                // Null if the component is removed from the item's defaults
+                buf.writeBoolean(value != null);
+                if (value != null) {
+                    value.write(ItemCodecHelper.INSTANCE, buf);
+                }
+            }
+            return new CacheKey(javaId, ByteBufUtil.getBytes(buf), locale, advancedTooltips);
+        } catch (Exception e) {
+            // Not worth failing the translation over
+            return null;
+        } finally {
+            buf.release();
+        }
+    }
+
+    record CacheKey(int javaId, byte @Nullable [] components, String locale, boolean advancedTooltips) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CacheKey other && javaId == other.javaId && advancedTooltips == other.advancedTooltips
+                    && Arrays.equals(components, other.components) && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = javaId;
+            result = 31 * result + Arrays.hashCode(components);
+            result = 31 * result + locale.hashCode();
+            return 31 * result + Boolean.hashCode(advancedTooltips);
+        }
+    }
+}
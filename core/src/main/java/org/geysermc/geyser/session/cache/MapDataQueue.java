@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import org.cloudburstmc.protocol.bedrock.packet.ClientboundMapItemDataPacket;
+import org.geysermc.geyser.session.GeyserSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Limits how many map data packets are sent to the Bedrock client each tick. Walking up to a wall of
+ * map art makes the Java server send every map at once, and each full map is 16384 colors.
+ * <p>
+ * Pending packets are grouped by map, so an update that repaints everything a waiting update would have
+ * replaces it instead of being sent after it, and an update inside the area of a waiting update is painted
+ * into it. Nothing is ever dropped: the Java server only sends a map's full canvas once.
+ */
+public final class MapDataQueue {
+    private static final int MAX_PACKETS_PER_TICK = 8;
+    /**
+     * If more than this many packets are waiting, the maps that have waited the longest are sent right away.
+     */
+    private static final int MAX_QUEUED_PACKETS = 1024;
+
+    private final GeyserSession session;
+    /**
+     * Map ID to the updates waiting for that map, oldest first. Maps are kept in the order they were first queued.
+     */
+    private final Long2ObjectLinkedOpenHashMap<List<ClientboundMapItemDataPacket>> queued = new Long2ObjectLinkedOpenHashMap<>();
+    private int queuedPackets;
+    private int sentThisTick;
+
+    public MapDataQueue(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Sends the map packet now, or queues it for a following tick if this tick's budget is used up.
+     */
+    public void send(ClientboundMapItemDataPacket packet) {
+        // Keep the order of updates for the same map if anything is already waiting
+        if (queued.isEmpty() && sentThisTick < MAX_PACKETS_PER_TICK) {
+            sentThisTick++;
+            session.sendUpstreamPacket(packet);
+            return;
+        }
+
+        List<ClientboundMapItemDataPacket> pending = queued.get(packet.getUniqueMapId());
+        if (pending == null) {
+            pending = new ArrayList<>(1);
+            queued.put(packet.getUniqueMapId(), pending);
+        } else {
+            // Every packet carries all decorations, so only the colors of an older update can still matter
+            int size = pending.size();
+            pending.removeIf(previous -> coversColors(packet, previous));
+            queuedPackets -= size - pending.size();
+
+            if (!pending.isEmpty() && mergeColors(pending.get(pending.size() - 1), packet)) {
+                pending.set(pending.size() - 1, packet);
+                return;
+            }
+        }
+        pending.add(packet);
+        queuedPackets++;
+
+        while (queuedPackets > MAX_QUEUED_PACKETS) {
+            List<ClientboundMapItemDataPacket> oldest = queued.removeFirst();
+            for (ClientboundMapItemDataPacket waiting : oldest) {
+                session.sendUpstreamPacket(waiting);
+            }
+            queuedPackets -= oldest.size();
+        }
+    }
+
+    public void tick() {
+        sentThisTick = 0;
+        while (sentThisTick < MAX_PACKETS_PER_TICK && !queued.isEmpty()) {
+            List<ClientboundMapItemDataPacket> pending = queued.get(queued.firstLongKey());
+            session.sendUpstreamPacket(pending.remove(0));
+            sentThisTick++;
+            queuedPackets--;
+            if (pending.isEmpty()) {
+                queued.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Sends everything that is waiting, e.g. before changing worlds.
+     */
+    public void flush() {
+        for (List<ClientboundMapItemDataPacket> pending : queued.values()) {
+            for (ClientboundMapItemDataPacket packet : pending) {
+                session.sendUpstreamPacket(packet);
+            }
+        }
+        queued.clear();
+        queuedPackets = 0;
+    }
+
+    /**
+     * @return if the newer packet repaints every pixel the older packet would have
+     */
+    private static boolean coversColors(ClientboundMapItemDataPacket newer, ClientboundMapItemDataPacket older) {
+        if (older.getWidth() <= 0 || older.getHeight() <= 0) {
+            // Decorations only
+            return true;
+        }
+        return newer.getXOffset() <= older.getXOffset() && newer.getYOffset() <= older.getYOffset()
+                && newer.getXOffset() + newer.getWidth() >= older.getXOffset() + older.getWidth()
+                && newer.getYOffset() + newer.getHeight() >= older.getYOffset() + older.getHeight();
+    }
+
+    /**
+     * Folds the colors of the older packet into the newer one if the newer packet only repaints a part of it.
+     * The newer packet then carries the older packet's area, and replaces it.
+     *
+     * @return if the newer packet now holds everything the older packet would have painted
+     */
+    private static boolean mergeColors(ClientboundMapItemDataPacket older, ClientboundMapItemDataPacket newer) {
+        if (newer.getWidth() > 0 && newer.getHeight() > 0) {
+            if (newer.getXOffset() < older.getXOffset() || newer.getYOffset() < older.getYOffset()
+                    || newer.getXOffset() + newer.getWidth() > older.getXOffset() + older.getWidth()
+                    || newer.getYOffset() + newer.getHeight() > older.getYOffset() + older.getHeight()) {
+                return false;
+            }
+
+            int[] olderColors = older.getColors();
+            int[] newerColors = newer.getColors();
+            for (int row = 0; row < newer.getHeight(); row++) {
+                System.arraycopy(newerColors, row * newer.getWidth(), olderColors,
+                        (newer.getYOffset() - older.getYOffset() + row) * older.getWidth() + newer.getXOffset() - older.getXOffset(),
+                        newer.getWidth());
+            }
+        }
+
+        newer.setXOffset(older.getXOffset());
+        newer.setYOffset(older.getYOffset());
+        newer.setWidth(older.getWidth());
+        newer.setHeight(older.getHeight());
+        newer.setColors(older.getColors());
+        return true;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import lombok.Getter;
+import org.cloudburstmc.math.vector.Vector3f;
+import org.geysermc.geyser.session.GeyserSession;
+
+/**
+ * Limits how many particles are sent to the Bedrock client each tick, as set by the max-particles-per-tick config option.
+ */
+public final class ParticleBudget {
+    private final GeyserSession session;
+    private final int maxPerTick;
+    private int remaining;
+
+    /**
+     * Particles not sent because the budget for that tick had run out.
+     */
+    @Getter
+    private long dropped;
+    /**
+     * Particles not sent because they were too far away from the player to be seen.
+     */
+    @Getter
+    private long culled;
+    /**
+     * Particles not sent because they would have been identical to another particle in the same packet.
+     */
+    @Getter
+    private long merged;
+
+    public ParticleBudget(GeyserSession session) {
+        this.session = session;
+        this.maxPerTick = session.getGeyser().getConfig().getMaxParticlesPerTick();
+        this.remaining = this.maxPerTick;
+    }
+
+    public void tick() {
+        this.remaining = this.maxPerTick;
+    }
+
+    /**
+     * @param amount how many particles we'd like to send
+     * @return how many of those particles may be sent
+     */
+    public int take(int amount) {
+        if (this.maxPerTick < 0) {
+            return amount;
+        }
+        int allowed = Math.min(amount, this.remaining);
+        this.remaining -= allowed;
+        this.dropped += amount - allowed;
+        return allowed;
+    }
+
+    /**
+     * Checks if particles at this position are beyond the player's view distance, and counts them as culled if so.
+     * <p>
+     * Vanilla servers only send particles further than 32 blocks away if they're marked as long distance, so in practice
+     * this only ever culls long distance particles. That's intended: the Bedrock client has no chunks loaded out there,
+     * so the player wouldn't see them anyway.
+     */
+    public boolean cull(double x, double y, double z, int amount) {
+        int renderDistance = session.getServerRenderDistance();
+        if (renderDistance <= 0) {
+            return false;
+        }
+        Vector3f position = session.getPlayerEntity().getPosition();
+        double dx = x - position.getX();
+        double dz = z - position.getZ();
+        // Vertical distance doesn't matter for the view distance, just like chunks
+        double maxDistance = renderDistance << 4;
+        if (dx * dx + dz * dz > maxDistance * maxDistance) {
+            this.culled += Math.max(1, amount);
+            return true;
+        }
+        return false;
+    }
+
+    public void addMerged(int amount) {
+        this.merged += amount;
+    }
+}
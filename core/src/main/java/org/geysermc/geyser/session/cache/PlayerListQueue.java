@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.cloudburstmc.protocol.bedrock.packet.PlayerListPacket;
+import org.geysermc.geyser.entity.type.player.PlayerEntity;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.skin.SkinManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Limits how many player list entries are sent to the Bedrock client each tick. Every entry carries a full skin,
+ * so joining a server with hundreds of players would otherwise send all of them at once.
+ * <p>
+ * Entries are built when they're sent rather than when they're queued, so any skin that finished downloading
+ * in the meantime is used instead of the fallback skin. Queued players are otherwise sent in the order the server
+ * listed them, but any player that spawns within render distance is sent right away through {@link #flush(PlayerEntity)},
+ * so nearby players don't wait behind the rest of the tab list.
+ */
+public final class PlayerListQueue {
+    private static final int MAX_ENTRIES_PER_TICK = 8;
+
+    private final GeyserSession session;
+    /**
+     * Tab list UUID to the player waiting to be added.
+     */
+    private final Map<UUID, PlayerEntity> queued = new LinkedHashMap<>();
+    private int sentThisTick;
+
+    public PlayerListQueue(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Adds these players to the tab list now, or queues them for a following tick if this tick's budget is used up.
+     */
+    public void add(Collection<PlayerEntity> entities) {
+        List<PlayerListPacket.Entry> entries = new ArrayList<>();
+        for (PlayerEntity entity : entities) {
+            if (entity == session.getPlayerEntity()) {
+                // Never hold back our own entry
+                entries.add(SkinManager.buildCachedEntry(session, entity));
+            } else if (queued.isEmpty() && sentThisTick < MAX_ENTRIES_PER_TICK) {
+                sentThisTick++;
+                entries.add(SkinManager.buildCachedEntry(session, entity));
+            } else {
+                queued.put(entity.getTabListUuid(), entity);
+            }
+        }
+        sendEntries(entries);
+    }
+
+    /**
+     * Drops this player from the queue, if they're still waiting to be added.
+     */
+    public void remove(UUID tabListUuid) {
+        queued.remove(tabListUuid);
+    }
+
+    /**
+     * Sends this player's entry right away if it's still queued - Bedrock needs it before the player is spawned.
+     */
+    public void flush(PlayerEntity entity) {
+        if (queued.remove(entity.getTabListUuid()) != null) {
+            sendEntries(List.of(SkinManager.buildCachedEntry(session, entity)));
+        }
+    }
+
+    public void clear() {
+        queued.clear();
+    }
+
+    public void tick() {
+        sentThisTick = 0;
+        if (queued.isEmpty()) {
+            return;
+        }
+
+        List<PlayerListPacket.Entry> entries = new ArrayList<>(Math.min(queued.size(), MAX_ENTRIES_PER_TICK));
+        Iterator<PlayerEntity> iterator = queued.values().iterator();
+        while (iterator.hasNext() && entries.size() < MAX_ENTRIES_PER_TICK) {
+            entries.add(SkinManager.buildCachedEntry(session, iterator.next()));
+            iterator.remove();
+        }
+        sentThisTick = entries.size();
+        sendEntries(entries);
+    }
+
+    private void sendEntries(List<PlayerListPacket.Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        PlayerListPacket tabListPacket = new PlayerListPacket();
+        tabListPacket.setAction(PlayerListPacket.Action.ADD);
+        tabListPacket.getEntries().addAll(entries);
+        session.sendUpstreamPacket(tabListPacket);
+    }
+}
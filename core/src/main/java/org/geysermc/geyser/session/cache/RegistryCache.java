@@ -140,6 +140,8 @@ public final class RegistryCache {
         var reader = REGISTRIES.get(packet.getRegistry());
         if (reader != null) {
             reader.accept(this, packet.getEntries());
+            // Item translation depends on registry contents (e.g. enchantment names)
+            session.getItemTranslationCache().clear();
         } else {
             GeyserImpl.getInstance().getLogger().debug("Ignoring registry of type " + packet.getRegistry());
         }
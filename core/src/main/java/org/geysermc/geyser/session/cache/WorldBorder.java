@@ -356,6 +356,9 @@ public class WorldBorder {
     }
 
     private void sendWorldBorderParticle(float x, float y, float z) {
+        if (session.getParticleBudget().take(1) == 0) {
+            return;
+        }
         LevelEventPacket effectPacket = new LevelEventPacket();
         effectPacket.setPosition(Vector3f.from(x, y, z));
         effectPacket.setType(WORLD_BORDER_PARTICLE);
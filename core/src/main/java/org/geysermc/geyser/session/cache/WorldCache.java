@@ -35,7 +35,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.protocol.bedrock.packet.SetTitlePacket;
 import org.geysermc.geyser.scoreboard.Scoreboard;
-import org.geysermc.geyser.scoreboard.ScoreboardUpdater.ScoreboardSession;
+import org.geysermc.geyser.scoreboard.ScoreboardUpdater;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.util.ChunkUtils;
 import org.geysermc.mcprotocollib.protocol.data.game.setting.Difficulty;
@@ -46,7 +46,7 @@ import java.util.Map;
 public final class WorldCache {
     private final GeyserSession session;
     @Getter
-    private final ScoreboardSession scoreboardSession;
+    private final ScoreboardUpdater scoreboardUpdater;
     @Getter
     private Scoreboard scoreboard;
     @Getter
@@ -73,7 +73,7 @@ public final class WorldCache {
     public WorldCache(GeyserSession session) {
         this.session = session;
         this.scoreboard = new Scoreboard(session);
-        scoreboardSession = new ScoreboardSession(session);
+        scoreboardUpdater = new ScoreboardUpdater(session);
         resetTitleTimes(false);
     }
 
@@ -85,9 +85,7 @@ public final class WorldCache {
     }
 
     public int increaseAndGetScoreboardPacketsPerSecond() {
-        int pendingPps = scoreboardSession.getPendingPacketsPerSecond().incrementAndGet();
-        int pps = scoreboardSession.getPacketsPerSecond();
-        return Math.max(pps, pendingPps);
+        return scoreboardUpdater.increaseAndGetPacketsPerSecond();
     }
 
     public void markTitleTimesAsIncorrect() {
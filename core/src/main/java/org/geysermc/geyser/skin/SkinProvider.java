@@ -28,6 +28,7 @@ package org.geysermc.geyser.skin;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import it.unimi.dsi.fastutil.bytes.ByteArrays;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -47,12 +48,16 @@ import org.geysermc.geyser.util.WebUtils;
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -60,7 +65,11 @@ import java.util.concurrent.*;
 import java.util.function.Predicate;
 
 public class SkinProvider {
-    private static ExecutorService EXECUTOR_SERVICE;
+    private static ThreadPoolExecutor EXECUTOR_SERVICE;
+    /**
+     * Skins are mostly requested in bursts (joins, server switches), so threads are only kept around while there is work.
+     */
+    private static final int EXECUTOR_THREADS = 14;
 
     static final Skin EMPTY_SKIN;
     static final Cape EMPTY_CAPE = new Cape("", "no-cape", ByteArrays.EMPTY_ARRAY, true);
@@ -133,11 +142,29 @@ public class SkinProvider {
 
     public static ExecutorService getExecutorService() {
         if (EXECUTOR_SERVICE == null) {
-            EXECUTOR_SERVICE = Executors.newFixedThreadPool(14);
+            EXECUTOR_SERVICE = new ThreadPoolExecutor(EXECUTOR_THREADS, EXECUTOR_THREADS, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), new DefaultThreadFactory("Geyser Skin Thread", true));
+            EXECUTOR_SERVICE.allowCoreThreadTimeOut(true);
         }
         return EXECUTOR_SERVICE;
     }
 
+    /**
+     * @return the number of skin tasks waiting for a thread
+     */
+    public static int getQueuedTaskCount() {
+        ThreadPoolExecutor executor = EXECUTOR_SERVICE;
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    /**
+     * @return the number of skin tasks currently running
+     */
+    public static int getActiveTaskCount() {
+        ThreadPoolExecutor executor = EXECUTOR_SERVICE;
+        return executor == null ? 0 : executor.getActiveCount();
+    }
+
     public static void shutdown() {
         if (EXECUTOR_SERVICE != null) {
             EXECUTOR_SERVICE.shutdown();
@@ -421,14 +448,18 @@ public class SkinProvider {
 
         // If no image we download it
         if (image == null) {
-            image = downloadImage(imageUrl);
+            byte[] imageBytes = downloadImage(imageUrl);
+            image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+            if (image == null) {
+                throw new IllegalArgumentException("Failed to read image from: %s".formatted(imageUrl));
+            }
             GeyserImpl.getInstance().getLogger().debug("Downloaded " + imageUrl);
 
-            // Write to cache if we are allowed
+            // Write to cache if we are allowed - the downloaded file is already a PNG, so there's no need to encode it again
             if (GeyserImpl.getInstance().getConfig().getCacheImages() > 0) {
                 imageFile.getParentFile().mkdirs();
                 try {
-                    ImageIO.write(image, "png", imageFile);
+                    Files.write(imageFile.toPath(), imageBytes);
                     GeyserImpl.getInstance().getLogger().debug("Writing cached skin to file " + imageFile.getPath() + " for " + imageUrl);
                 } catch (IOException e) {
                     GeyserImpl.getInstance().getLogger().error("Failed to write cached skin to file " + imageFile.getPath() + " for " + imageUrl);
@@ -533,18 +564,15 @@ public class SkinProvider {
         });
     }
 
-    private static BufferedImage downloadImage(String imageUrl) throws IOException {
+    private static byte[] downloadImage(String imageUrl) throws IOException {
         HttpURLConnection con = (HttpURLConnection) new URL(imageUrl).openConnection();
         con.setRequestProperty("User-Agent", WebUtils.getUserAgent());
         con.setConnectTimeout(10000);
         con.setReadTimeout(10000);
 
-        BufferedImage image = ImageIO.read(con.getInputStream());
-
-        if (image == null) {
-            throw new IllegalArgumentException("Failed to read image from: %s".formatted(imageUrl));
+        try (InputStream stream = con.getInputStream()) {
+            return stream.readAllBytes();
         }
-        return image;
     }
 
     public static BufferedImage scale(BufferedImage bufferedImage, int newWidth, int newHeight) {
@@ -579,12 +607,12 @@ public class SkinProvider {
      */
     public static BufferedImage imageDataToBufferedImage(byte[] imageData, int imageWidth, int imageHeight) {
         BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+        // Write straight into the image's backing array instead of going through setRGB for every pixel
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
         int index = 0;
-        for (int y = 0; y < imageHeight; y++) {
-            for (int x = 0; x < imageWidth; x++) {
-                image.setRGB(x, y, getRGBA(index, imageData));
-                index += 4;
-            }
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = getRGBA(index, imageData);
+            index += 4;
         }
 
         return image;
@@ -597,17 +625,19 @@ public class SkinProvider {
      * @return The converted byte[]
      */
     public static byte[] bufferedImageToImageData(BufferedImage image) {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(image.getWidth() * 4 + image.getHeight() * 4);
-        for (int y = 0; y < image.getHeight(); y++) {
-            for (int x = 0; x < image.getWidth(); x++) {
-                int rgba = image.getRGB(x, y);
-                outputStream.write((rgba >> 16) & 0xFF);
-                outputStream.write((rgba >> 8) & 0xFF);
-                outputStream.write(rgba & 0xFF);
-                outputStream.write((rgba >> 24) & 0xFF);
-            }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        // Converts the whole image to ARGB in one call, whatever its internal format is
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        byte[] data = new byte[pixels.length * 4];
+        int index = 0;
+        for (int argb : pixels) {
+            data[index++] = (byte) (argb >> 16);
+            data[index++] = (byte) (argb >> 8);
+            data[index++] = (byte) argb;
+            data[index++] = (byte) (argb >> 24);
         }
-        return outputStream.toByteArray();
+        return data;
     }
 
     public static <T> T getOrDefault(CompletableFuture<T> future, T defaultValue, int timeoutInSeconds) {
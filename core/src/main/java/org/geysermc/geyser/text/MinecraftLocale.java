@@ -26,8 +26,13 @@
 package org.geysermc.geyser.text;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.util.AssetUtils;
 import org.geysermc.geyser.util.FileUtils;
 import org.geysermc.geyser.util.WebUtils;
@@ -42,10 +47,32 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class MinecraftLocale {
 
-    public static final Map<String, Map<String, String>> LOCALE_MAPPINGS = new HashMap<>();
+    /**
+     * Every translation key of every loaded locale, mapped to its position in each locale's string array.
+     * Locales share almost all of their keys, so each key is only stored once. This map is replaced rather than
+     * modified, so it can be read without locking.
+     */
+    private static volatile Object2IntMap<String> KEY_INDEX = createKeyIndex(Object2IntMaps.emptyMap());
+    /**
+     * Locale to its translations, indexed by {@link #KEY_INDEX}.
+     */
+    private static final Map<String, String[]> LOCALE_MAPPINGS = new ConcurrentHashMap<>();
+    private static final Set<String> LOADING_LOCALES = ConcurrentHashMap.newKeySet();
+    /**
+     * Downloads can be slow, so they get their own thread instead of holding up Geyser's scheduled thread.
+     * The thread stops once there is nothing left to load.
+     */
+    private static final ExecutorService LOCALE_LOADER = new ThreadPoolExecutor(0, 1, 30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), new DefaultThreadFactory("Geyser Locale Loader", true));
 
     private static final Path LOCALE_FOLDER = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("locales");
 
@@ -70,6 +97,45 @@ public class MinecraftLocale {
                 }));
     }
 
+    /**
+     * Downloads and loads a locale in the background. Until it's loaded, translations use the default locale.
+     * Once it has loaded, the inventories of players using it are sent again. Other text already shown to them,
+     * such as scoreboards and entity names, stays in the default locale until the server next updates it.
+     *
+     * @param locale Locale to download and load
+     */
+    public static void downloadAndLoadLocaleAsync(String locale) {
+        String lowercaseLocale = locale.toLowerCase(Locale.ROOT);
+        if (isLocaleLoaded(lowercaseLocale) || !LOADING_LOCALES.add(lowercaseLocale)) {
+            return;
+        }
+        LOCALE_LOADER.execute(() -> {
+            try {
+                downloadAndLoadLocale(lowercaseLocale);
+            } finally {
+                LOADING_LOCALES.remove(lowercaseLocale);
+            }
+            if (isLocaleLoaded(lowercaseLocale)) {
+                refreshInventories(lowercaseLocale);
+            }
+        });
+    }
+
+    /**
+     * Items translated while the locale was loading used the default locale, so send them again.
+     */
+    private static void refreshInventories(String locale) {
+        for (GeyserSession session : GeyserImpl.getInstance().getSessionManager().getAllSessions()) {
+            if (locale.equalsIgnoreCase(session.locale())) {
+                session.executeInEventLoop(() -> {
+                    if (session.isSentSpawnPacket()) {
+                        session.getInventoryTranslator().updateInventory(session, session.getPlayerInventory());
+                    }
+                });
+            }
+        }
+    }
+
     /**
      * Downloads a locale from Mojang if it's not already loaded
      *
@@ -171,13 +237,53 @@ public class MinecraftLocale {
         }
 
         if (!langMap.isEmpty()) {
-            LOCALE_MAPPINGS.put(lowercaseLocale, langMap);
+            LOCALE_MAPPINGS.put(lowercaseLocale, compact(langMap));
             return true;
         } else {
             return false;
         }
     }
 
+    /**
+     * Converts a locale into an array indexed by {@link #KEY_INDEX}, adding any keys the index doesn't know yet.
+     */
+    private static synchronized String[] compact(Map<String, String> langMap) {
+        Object2IntMap<String> index = KEY_INDEX;
+        Object2IntMap<String> newIndex = null;
+        for (String key : langMap.keySet()) {
+            if (!index.containsKey(key) && (newIndex == null || !newIndex.containsKey(key))) {
+                if (newIndex == null) {
+                    newIndex = createKeyIndex(index);
+                }
+                newIndex.put(key, newIndex.size());
+            }
+        }
+        if (newIndex != null) {
+            KEY_INDEX = index = newIndex;
+        }
+
+        String[] values = new String[index.size()];
+        for (Map.Entry<String, String> entry : langMap.entrySet()) {
+            values[index.getInt(entry.getKey())] = entry.getValue();
+        }
+        return values;
+    }
+
+    private static Object2IntMap<String> createKeyIndex(Object2IntMap<String> existing) {
+        Object2IntOpenHashMap<String> index = new Object2IntOpenHashMap<>(existing);
+        index.defaultReturnValue(-1);
+        return index;
+    }
+
+    private static @Nullable String lookup(String[] localeStrings, String messageText) {
+        int index = KEY_INDEX.getInt(messageText);
+        // The index may have grown since this locale was loaded - it doesn't have those keys
+        if (index < 0 || index >= localeStrings.length) {
+            return null;
+        }
+        return localeStrings[index];
+    }
+
     /**
      * Load and parse a json lang file.
      *
@@ -214,7 +320,7 @@ public class MinecraftLocale {
      * @return Translated string or the original message if it was not found in the given locale
      */
     public static String getLocaleString(String messageText, String locale) {
-        Map<String, String> localeStrings = LOCALE_MAPPINGS.get(locale.toLowerCase(Locale.ROOT));
+        String[] localeStrings = LOCALE_MAPPINGS.get(locale.toLowerCase(Locale.ROOT));
         if (localeStrings == null) {
             localeStrings = LOCALE_MAPPINGS.get(GeyserLocale.getDefaultLocale());
             if (localeStrings == null) {
@@ -224,7 +330,8 @@ public class MinecraftLocale {
             }
         }
 
-        return localeStrings.getOrDefault(messageText, messageText);
+        String translated = lookup(localeStrings, messageText);
+        return translated != null ? translated : messageText;
     }
 
     /**
@@ -235,9 +342,9 @@ public class MinecraftLocale {
      * @return Translated string or null if it was not found in the given locale
      */
     public static @Nullable String getLocaleStringIfPresent(String messageText, String locale) {
-        Map<String, String> localeStrings = LOCALE_MAPPINGS.get(locale.toLowerCase(Locale.ROOT));
+        String[] localeStrings = LOCALE_MAPPINGS.get(locale.toLowerCase(Locale.ROOT));
         if (localeStrings != null) {
-            return localeStrings.get(messageText);
+            return lookup(localeStrings, messageText);
         }
 
         return null;
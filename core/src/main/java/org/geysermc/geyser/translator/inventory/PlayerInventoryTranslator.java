@@ -71,8 +71,6 @@ public class PlayerInventoryTranslator extends InventoryTranslator {
     public void updateInventory(GeyserSession session, Inventory inventory) {
         updateCraftingGrid(session, inventory);
 
-        InventoryContentPacket inventoryContentPacket = new InventoryContentPacket();
-        inventoryContentPacket.setContainerId(ContainerId.INVENTORY);
         ItemData[] contents = new ItemData[36];
         // Inventory
         for (int i = 9; i < 36; i++) {
@@ -82,8 +80,7 @@ public class PlayerInventoryTranslator extends InventoryTranslator {
         for (int i = 36; i < 45; i++) {
             contents[i - 36] = inventory.getItem(i).getItemData(session);
         }
-        inventoryContentPacket.setContents(Arrays.asList(contents));
-        session.sendUpstreamPacket(inventoryContentPacket);
+        session.getInventoryContentCache().sendContents(ContainerId.INVENTORY, contents);
 
         // Armor
         InventoryContentPacket armorContentPacket = new InventoryContentPacket();
@@ -145,16 +142,11 @@ public class PlayerInventoryTranslator extends InventoryTranslator {
             }
         }
 
-        if (slot >= 1 && slot <= 44) {
+        if (slot >= 9 && slot <= 44) {
+            session.getInventoryContentCache().sendSlot(ContainerId.INVENTORY, slot >= 36 ? slot - 36 : slot, bedrockItem);
+        } else if (slot >= 1 && slot <= 8) {
             InventorySlotPacket slotPacket = new InventorySlotPacket();
-            if (slot >= 9) {
-                slotPacket.setContainerId(ContainerId.INVENTORY);
-                if (slot >= 36) {
-                    slotPacket.setSlot(slot - 36);
-                } else {
-                    slotPacket.setSlot(slot);
-                }
-            } else if (slot >= 5) {
+            if (slot >= 5) {
                 slotPacket.setContainerId(ContainerId.ARMOR);
                 slotPacket.setSlot(slot - 5);
             } else {
@@ -91,10 +91,7 @@ public abstract class ChestedHorseInventoryTranslator extends AbstractHorseInven
             final int offset = i < 9 ? 27 : -9;
             bedrockItems[i] = inventory.getItem(this.size + i + offset).getItemData(session);
         }
-        InventoryContentPacket contentPacket = new InventoryContentPacket();
-        contentPacket.setContainerId(ContainerId.INVENTORY);
-        contentPacket.setContents(Arrays.asList(bedrockItems));
-        session.sendUpstreamPacket(contentPacket);
+        session.getInventoryContentCache().sendContents(ContainerId.INVENTORY, bedrockItems);
 
         ItemData[] horseItems = new ItemData[chestSize + 1];
         // Manually specify the first slot - Java always has two slots (armor and saddle) and one is invisible.
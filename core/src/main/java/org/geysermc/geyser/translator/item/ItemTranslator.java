@@ -48,6 +48,7 @@ import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.CustomSkull;
 import org.geysermc.geyser.registry.type.ItemMapping;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ItemTranslationCache;
 import org.geysermc.geyser.text.ChatColor;
 import org.geysermc.geyser.text.MinecraftLocale;
 import org.geysermc.geyser.translator.text.MessageTranslator;
@@ -128,7 +129,7 @@ public final class ItemTranslator {
             session.getGeyser().getLogger().debug("ItemMapping returned air: " + javaId);
             return ItemData.builder();
         }
-        return translateToBedrock(session, Registries.JAVA_ITEMS.get().get(javaId), bedrockItem, count, components);
+        return translateToBedrockCached(session, javaId, bedrockItem, count, components).toBuilder();
     }
 
     @NonNull
@@ -142,9 +143,28 @@ public final class ItemTranslator {
             session.getGeyser().getLogger().debug("ItemMapping returned air: " + stack);
             return ItemData.AIR;
         }
-        // Java item needs to be loaded separately. The mapping for tipped arrow would
-        return translateToBedrock(session, Registries.JAVA_ITEMS.get().get(stack.getId()), bedrockItem, stack.getAmount(), stack.getDataComponents())
-                .build();
+        return translateToBedrockCached(session, stack.getId(), bedrockItem, stack.getAmount(), stack.getDataComponents());
+    }
+
+    /**
+     * Looks up this item in the session's {@link org.geysermc.geyser.session.cache.ItemTranslationCache}, translating
+     * and storing it on a miss. The count of the returned item data is always the one requested.
+     */
+    private static @NonNull ItemData translateToBedrockCached(GeyserSession session, int javaId, ItemMapping bedrockItem, int count, @Nullable DataComponents components) {
+        if (count <= 0) {
+            // Translates to air; don't store that
+            return translateToBedrock(session, Registries.JAVA_ITEMS.get().get(javaId), bedrockItem, count, components).build();
+        }
+
+        ItemTranslationCache cache = session.getItemTranslationCache();
+        ItemData cached = cache.get(javaId, components);
+        if (cached != null) {
+            return cached.getCount() == count ? cached : cached.toBuilder().count(count).build();
+        }
+
+        ItemData itemData = translateToBedrock(session, Registries.JAVA_ITEMS.get().get(javaId), bedrockItem, count, components).build();
+        cache.put(javaId, components, itemData);
+        return itemData;
     }
 
     public static ItemData.@NonNull Builder translateToBedrock(GeyserSession session, Item javaItem, ItemMapping bedrockItem, int count, @Nullable DataComponents components) {
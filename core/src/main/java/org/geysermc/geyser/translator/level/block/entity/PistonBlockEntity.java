@@ -26,10 +26,12 @@
 package org.geysermc.geyser.translator.level.block.entity;
 
 import it.unimi.dsi.fastutil.ints.IntArrays;
-import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import lombok.Getter;
 import org.cloudburstmc.math.vector.Vector3d;
 import org.cloudburstmc.math.vector.Vector3f;
@@ -50,17 +52,16 @@ import org.geysermc.geyser.level.physics.CollisionManager;
 import org.geysermc.geyser.level.physics.Direction;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ChunkCache;
 import org.geysermc.geyser.session.cache.PistonCache;
 import org.geysermc.geyser.translator.collision.BlockCollision;
 import org.geysermc.geyser.util.BlockEntityUtils;
 import org.geysermc.geyser.util.BlockUtils;
 import org.geysermc.geyser.util.ChunkUtils;
+import org.geysermc.geyser.util.MathUtils;
 import org.geysermc.mcprotocollib.protocol.data.game.level.block.value.PistonValueType;
 
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
 
 public class PistonBlockEntity {
     private final GeyserSession session;
@@ -73,9 +74,9 @@ public class PistonBlockEntity {
     private PistonValueType action;
 
     /**
-     * A map of attached block positions to Java ids.
+     * A map of attached block positions, packed with {@link MathUtils#blockPositionToLong(int, int, int)}, to Java block states.
      */
-    private final Object2ObjectMap<Vector3i, BlockState> attachedBlocks = new Object2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<BlockState> attachedBlocks = new Long2ObjectOpenHashMap<>();
     /**
      * A flattened array of the positions of attached blocks, stored in XYZ order.
      */
@@ -91,6 +92,15 @@ public class PistonBlockEntity {
 
     private long timeSinceCompletion = 0;
 
+    /**
+     * The block state of the piston head, which never changes for a given piston
+     */
+    private final BlockState pistonHeadState;
+    /**
+     * Reused by {@link #getBlockIntersection} so block collision boxes don't need to be cloned every tick
+     */
+    private final BoundingBox scratchBoundingBox = new BoundingBox(0, 0, 0, 0, 0, 0);
+
     private static final BoundingBox SOLID_BOUNDING_BOX = new BoundingBox(0.5, 0.5, 0.5, 1, 1, 1);
     private static final BoundingBox HONEY_BOUNDING_BOX;
 
@@ -118,6 +128,9 @@ public class PistonBlockEntity {
         this.position = position;
         this.orientation = orientation;
         this.sticky = sticky;
+        this.pistonHeadState = Blocks.PISTON_HEAD.defaultBlockState()
+                .withValue(Properties.SHORT, false)
+                .withValue(Properties.FACING, orientation);
 
         if (extended) {
             // Fully extended
@@ -174,7 +187,10 @@ public class PistonBlockEntity {
         if (action == PistonValueType.PUSHING || (action == PistonValueType.PULLING && sticky)) {
             // Blocks only move when pushing or pulling with sticky pistons
             if (attachedBlocks.size() <= 12) {
-                this.attachedBlocks.putAll(attachedBlocks);
+                for (Map.Entry<Vector3i, BlockState> entry : attachedBlocks.entrySet()) {
+                    Vector3i blockPos = entry.getKey();
+                    this.attachedBlocks.put(MathUtils.blockPositionToLong(blockPos.getX(), blockPos.getY(), blockPos.getZ()), entry.getValue());
+                }
                 flattenPositions();
             }
             removeBlocks();
@@ -238,30 +254,45 @@ public class PistonBlockEntity {
 
     /**
      * Find the blocks that will be pushed or pulled by the piston
+     * <p>
+     * This is only used when the session chunk cache holds the world, so blocks are read from it directly
+     * rather than through the world manager.
      */
     private void findAffectedBlocks() {
-        Set<Vector3i> blocksChecked = new ObjectOpenHashSet<>();
-        Queue<Vector3i> blocksToCheck = new LinkedList<>();
+        LongSet blocksChecked = new LongOpenHashSet();
+        LongArrayFIFOQueue blocksToCheck = new LongArrayFIFOQueue();
+        ChunkCache chunkCache = session.getChunkCache();
 
         Vector3i directionOffset = orientation.getUnitVector();
         Vector3i movement = getMovement();
-        blocksChecked.add(position); // Don't check the piston itself
+        int moveX = movement.getX();
+        int moveY = movement.getY();
+        int moveZ = movement.getZ();
+
+        long pistonPos = MathUtils.blockPositionToLong(position.getX(), position.getY(), position.getZ());
+        long pistonHeadPos = MathUtils.blockPositionToLong(position.getX() + directionOffset.getX(),
+                position.getY() + directionOffset.getY(), position.getZ() + directionOffset.getZ());
+        blocksChecked.add(pistonPos); // Don't check the piston itself
         if (action == PistonValueType.PULLING) {
-            blocksChecked.add(getPistonHeadPos()); // Don't check the piston head
-            blocksToCheck.add(position.add(directionOffset.mul(2)));
+            blocksChecked.add(pistonHeadPos); // Don't check the piston head
+            blocksToCheck.enqueue(MathUtils.blockPositionToLong(position.getX() + directionOffset.getX() * 2,
+                    position.getY() + directionOffset.getY() * 2, position.getZ() + directionOffset.getZ() * 2));
         } else if (action == PistonValueType.PUSHING) {
             removePistonHead(); // Remove lingering piston heads
-            blocksToCheck.add(position.add(directionOffset));
+            blocksToCheck.enqueue(pistonHeadPos);
         }
 
         boolean moveBlocks = true;
         while (!blocksToCheck.isEmpty() && attachedBlocks.size() <= 12) {
-            Vector3i blockPos = blocksToCheck.remove();
+            long blockPos = blocksToCheck.dequeueLong();
             // Skip blocks we've already checked
             if (!blocksChecked.add(blockPos)) {
                 continue;
             }
-            BlockState state = session.getGeyser().getWorldManager().blockAt(session, blockPos);
+            int x = MathUtils.unpackBlockX(blockPos);
+            int y = MathUtils.unpackBlockY(blockPos);
+            int z = MathUtils.unpackBlockZ(blockPos);
+            BlockState state = BlockState.of(chunkCache.getBlockAt(x, y, z));
             if (state.block() == Blocks.AIR) {
                 continue;
             }
@@ -275,30 +306,33 @@ public class PistonBlockEntity {
                         if (offset.equals(movement)) {
                             continue;
                         }
-                        Vector3i adjacentPos = blockPos.add(offset);
+                        int adjacentX = x + offset.getX();
+                        int adjacentY = y + offset.getY();
+                        int adjacentZ = z + offset.getZ();
+                        long adjacentPos = MathUtils.blockPositionToLong(adjacentX, adjacentY, adjacentZ);
                         // Ignore the piston block itself
-                        if (adjacentPos.equals(position)) {
+                        if (adjacentPos == pistonPos) {
                             continue;
                         }
                         // Ignore the piston head
-                        if (action == PistonValueType.PULLING && position.add(directionOffset).equals(adjacentPos)) {
+                        if (action == PistonValueType.PULLING && adjacentPos == pistonHeadPos) {
                             continue;
                         }
-                        BlockState adjacentBlockState = session.getGeyser().getWorldManager().blockAt(session, adjacentPos);
+                        BlockState adjacentBlockState = BlockState.of(chunkCache.getBlockAt(adjacentX, adjacentY, adjacentZ));
                         if (adjacentBlockState.block() != Blocks.AIR && BlockStateValues.isBlockAttached(state, adjacentBlockState) && BlockStateValues.canPistonMoveBlock(adjacentBlockState, false)) {
                             // If it is another slime/honey block we need to check its adjacent blocks
                             if (BlockStateValues.isBlockSticky(adjacentBlockState)) {
-                                blocksToCheck.add(adjacentPos);
+                                blocksToCheck.enqueue(adjacentPos);
                             } else {
                                 attachedBlocks.put(adjacentPos, adjacentBlockState);
                                 blocksChecked.add(adjacentPos);
-                                blocksToCheck.add(adjacentPos.add(movement));
+                                blocksToCheck.enqueue(MathUtils.blockPositionToLong(adjacentX + moveX, adjacentY + moveY, adjacentZ + moveZ));
                             }
                         }
                     }
                 }
                 // Check next block in line
-                blocksToCheck.add(blockPos.add(movement));
+                blocksToCheck.enqueue(MathUtils.blockPositionToLong(x + moveX, y + moveY, z + moveZ));
             } else if (!BlockStateValues.canPistonDestroyBlock(state)) {
                 // Block can't be moved or destroyed, so it blocks all block movement
                 moveBlocks = false;
@@ -328,8 +362,8 @@ public class PistonBlockEntity {
      * Replace all attached blocks with air
      */
     private void removeBlocks() {
-        for (Vector3i blockPos : attachedBlocks.keySet()) {
-            ChunkUtils.updateBlock(session, Block.JAVA_AIR_ID, blockPos);
+        for (long blockPos : attachedBlocks.keySet()) {
+            ChunkUtils.updateBlock(session, Block.JAVA_AIR_ID, unpackPosition(blockPos));
         }
         if (action != PistonValueType.PUSHING) {
             removePistonHead();
@@ -359,36 +393,33 @@ public class PistonBlockEntity {
         }
 
         // Shrink the collision in the other axes slightly, to avoid false positives when pressed up against the side of blocks
-        Vector3d shrink = Vector3i.ONE.sub(direction.abs()).toDouble().mul(CollisionManager.COLLISION_TOLERANCE * 2);
+        double shrink = CollisionManager.COLLISION_TOLERANCE * 2;
         double sizeX = playerBoundingBox.getSizeX();
         double sizeY = playerBoundingBox.getSizeY();
         double sizeZ = playerBoundingBox.getSizeZ();
 
-        playerBoundingBox.setSizeX(sizeX - shrink.getX());
-        playerBoundingBox.setSizeY(sizeY - shrink.getY());
-        playerBoundingBox.setSizeZ(sizeZ - shrink.getZ());
+        playerBoundingBox.setSizeX(direction.getX() == 0 ? sizeX - shrink : sizeX);
+        playerBoundingBox.setSizeY(direction.getY() == 0 ? sizeY - shrink : sizeY);
+        playerBoundingBox.setSizeZ(direction.getZ() == 0 ? sizeZ - shrink : sizeZ);
 
         // Resolve collision with the piston head
-        BlockState pistonHeadId = Blocks.PISTON_HEAD.defaultBlockState()
-                .withValue(Properties.SHORT, false)
-                .withValue(Properties.FACING, orientation);
-        pushPlayerBlock(pistonHeadId, getPistonHeadPos().toDouble(), blockMovement, playerBoundingBox, onGround);
+        pushPlayerBlock(pistonHeadState, getPistonHeadPos().toDouble(), blockMovement, playerBoundingBox, onGround);
 
         // Resolve collision with any attached moving blocks, but skip slime blocks
         // This prevents players from being launched by slime blocks covered by other blocks
-        for (Map.Entry<Vector3i, BlockState> entry : Object2ObjectMaps.fastIterable(attachedBlocks)) {
+        for (Long2ObjectMap.Entry<BlockState> entry : Long2ObjectMaps.fastIterable(attachedBlocks)) {
             BlockState state = entry.getValue();
             if (!state.is(Blocks.SLIME_BLOCK)) {
-                Vector3d blockPos = entry.getKey().toDouble();
-                pushPlayerBlock(state, blockPos, blockMovement, playerBoundingBox, onGround);
+                long blockPos = entry.getLongKey();
+                pushPlayerBlock(state, Vector3d.from(MathUtils.unpackBlockX(blockPos), MathUtils.unpackBlockY(blockPos), MathUtils.unpackBlockZ(blockPos)), blockMovement, playerBoundingBox, onGround);
             }
         }
         // Resolve collision with slime blocks
-        for (Map.Entry<Vector3i, BlockState> entry : Object2ObjectMaps.fastIterable(attachedBlocks)) {
+        for (Long2ObjectMap.Entry<BlockState> entry : Long2ObjectMaps.fastIterable(attachedBlocks)) {
             BlockState state = entry.getValue();
             if (state.is(Blocks.SLIME_BLOCK)) {
-                Vector3d blockPos = entry.getKey().toDouble();
-                pushPlayerBlock(state, blockPos, blockMovement, playerBoundingBox, onGround);
+                long blockPos = entry.getLongKey();
+                pushPlayerBlock(state, Vector3d.from(MathUtils.unpackBlockX(blockPos), MathUtils.unpackBlockY(blockPos), MathUtils.unpackBlockZ(blockPos)), blockMovement, playerBoundingBox, onGround);
             }
         }
 
@@ -471,8 +502,9 @@ public class PistonBlockEntity {
     private double getBlockIntersection(BlockCollision blockCollision, Vector3d blockPos, Vector3d extend, BoundingBox boundingBox, Direction direction) {
         Direction oppositeDirection = direction.reversed();
         double maxIntersection = 0;
-        for (BoundingBox b : blockCollision.getBoundingBoxes()) {
-            b = b.clone();
+        BoundingBox b = scratchBoundingBox;
+        for (BoundingBox collisionBox : blockCollision.getBoundingBoxes()) {
+            b.copyFrom(collisionBox);
             b.extend(extend);
             b.translate(blockPos.getX(), blockPos.getY(), blockPos.getZ());
             if (b.checkIntersection(Vector3d.ZERO, boundingBox)) {
@@ -582,11 +614,9 @@ public class PistonBlockEntity {
 
     private BlockState getAttachedBlockId(Vector3i blockPos) {
         if (blockPos.equals(getPistonHeadPos())) {
-            return Blocks.PISTON_HEAD.defaultBlockState()
-                    .withValue(Properties.SHORT, false)
-                    .withValue(Properties.FACING, orientation);
+            return pistonHeadState;
         } else {
-            return attachedBlocks.getOrDefault(blockPos, Blocks.AIR.defaultBlockState());
+            return attachedBlocks.getOrDefault(MathUtils.blockPositionToLong(blockPos.getX(), blockPos.getY(), blockPos.getZ()), Blocks.AIR.defaultBlockState());
         }
     }
 
@@ -596,7 +626,9 @@ public class PistonBlockEntity {
     private void createMovingBlocks() {
         // Map the final position of each block to this block entity
         Map<Vector3i, PistonBlockEntity> movingBlockMap = session.getPistonCache().getMovingBlocksMap();
-        attachedBlocks.forEach((blockPos, javaId) -> movingBlockMap.put(blockPos, this));
+        for (long blockPos : attachedBlocks.keySet()) {
+            movingBlockMap.put(unpackPosition(blockPos), this);
+        }
         movingBlockMap.put(getPistonHeadPos(), this);
 
         Vector3i movement = getMovement();
@@ -607,7 +639,9 @@ public class PistonBlockEntity {
             playerBoundingBox.setSizeX(playerBoundingBox.getSizeX() + 0.5);
             playerBoundingBox.setSizeZ(playerBoundingBox.getSizeZ() + 0.5);
         }
-        attachedBlocks.forEach((blockPos, state) -> {
+        for (Long2ObjectMap.Entry<BlockState> entry : Long2ObjectMaps.fastIterable(attachedBlocks)) {
+            Vector3i blockPos = unpackPosition(entry.getLongKey());
+            BlockState state = entry.getValue();
             Vector3i newPos = blockPos.add(movement);
             if (SOLID_BOUNDING_BOX.checkIntersection(blockPos.toDouble(), playerBoundingBox) ||
                     SOLID_BOUNDING_BOX.checkIntersection(newPos.toDouble(), playerBoundingBox)) {
@@ -617,7 +651,7 @@ public class PistonBlockEntity {
                 }
                 // Don't place moving blocks that collide with the player
                 // because of https://bugs.mojang.com/browse/MCPE-96035
-                return;
+                continue;
             }
             // Place a moving block at the new location of the block
             UpdateBlockPacket updateBlockPacket = new UpdateBlockPacket();
@@ -629,7 +663,7 @@ public class PistonBlockEntity {
             session.sendUpstreamPacket(updateBlockPacket);
             // Update moving block with correct details
             BlockEntityUtils.updateBlockEntity(session, buildMovingBlockTag(newPos, state, position), newPos);
-        });
+        }
     }
 
     /**
@@ -647,19 +681,18 @@ public class PistonBlockEntity {
 
         Vector3i movement = getMovement();
         BoundingBox playerBoundingBox = session.getCollisionManager().getActiveBoundingBox().clone();
-        attachedBlocks.forEach((blockPos, state) -> {
-            blockPos = blockPos.add(movement);
+        for (Long2ObjectMap.Entry<BlockState> entry : Long2ObjectMaps.fastIterable(attachedBlocks)) {
+            long blockPos = entry.getLongKey();
+            Vector3i newPos = Vector3i.from(MathUtils.unpackBlockX(blockPos) + movement.getX(), MathUtils.unpackBlockY(blockPos) + movement.getY(), MathUtils.unpackBlockZ(blockPos) + movement.getZ());
             // Don't place blocks that collide with the player
-            if (!SOLID_BOUNDING_BOX.checkIntersection(blockPos.toDouble(), playerBoundingBox)) {
-                ChunkUtils.updateBlock(session, state, blockPos);
+            if (!SOLID_BOUNDING_BOX.checkIntersection(newPos.toDouble(), playerBoundingBox)) {
+                ChunkUtils.updateBlock(session, entry.getValue(), newPos);
             }
-        });
+        }
         if (action == PistonValueType.PUSHING) {
             Vector3i pistonHeadPos = getPistonHeadPos().add(movement);
             if (!SOLID_BOUNDING_BOX.checkIntersection(pistonHeadPos.toDouble(), playerBoundingBox)) {
-                ChunkUtils.updateBlock(session, Blocks.PISTON_HEAD.defaultBlockState()
-                        .withValue(Properties.SHORT, false)
-                        .withValue(Properties.FACING, orientation), pistonHeadPos);
+                ChunkUtils.updateBlock(session, pistonHeadState, pistonHeadPos);
             }
         }
     }
@@ -669,10 +702,12 @@ public class PistonBlockEntity {
      */
     private void removeMovingBlocks() {
         Map<Vector3i, PistonBlockEntity> movingBlockMap = session.getPistonCache().getMovingBlocksMap();
-        attachedBlocks.forEach((blockPos, javaId) -> movingBlockMap.remove(blockPos));
+        for (long blockPos : attachedBlocks.keySet()) {
+            movingBlockMap.remove(unpackPosition(blockPos));
+        }
         attachedBlocks.clear();
         movingBlockMap.remove(getPistonHeadPos());
-        flattenedAttachedBlocks = new int[0];
+        flattenedAttachedBlocks = IntArrays.EMPTY_ARRAY;
     }
 
     /**
@@ -681,14 +716,18 @@ public class PistonBlockEntity {
     private void flattenPositions() {
         flattenedAttachedBlocks = new int[3 * attachedBlocks.size()];
         int i = 0;
-        for (Vector3i position : attachedBlocks.keySet()) {
-            flattenedAttachedBlocks[3 * i] = position.getX();
-            flattenedAttachedBlocks[3 * i + 1] = position.getY();
-            flattenedAttachedBlocks[3 * i + 2] = position.getZ();
+        for (long position : attachedBlocks.keySet()) {
+            flattenedAttachedBlocks[3 * i] = MathUtils.unpackBlockX(position);
+            flattenedAttachedBlocks[3 * i + 1] = MathUtils.unpackBlockY(position);
+            flattenedAttachedBlocks[3 * i + 2] = MathUtils.unpackBlockZ(position);
             i++;
         }
     }
 
+    private static Vector3i unpackPosition(long position) {
+        return Vector3i.from(MathUtils.unpackBlockX(position), MathUtils.unpackBlockY(position), MathUtils.unpackBlockZ(position));
+    }
+
     /**
      * Get the Bedrock state of the piston
      *
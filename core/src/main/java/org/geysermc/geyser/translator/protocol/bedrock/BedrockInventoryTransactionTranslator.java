@@ -33,6 +33,7 @@ import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.protocol.bedrock.data.LevelEvent;
 import org.cloudburstmc.protocol.bedrock.data.definitions.BlockDefinition;
 import org.cloudburstmc.protocol.bedrock.data.definitions.ItemDefinition;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ContainerId;
 import org.cloudburstmc.protocol.bedrock.data.inventory.ContainerType;
 import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
 import org.cloudburstmc.protocol.bedrock.data.inventory.transaction.InventoryActionData;
@@ -64,6 +65,7 @@ import org.geysermc.geyser.level.block.type.CauldronBlock;
 import org.geysermc.geyser.level.block.type.SkullBlock;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.InventoryContentCache;
 import org.geysermc.geyser.session.cache.SkullCache;
 import org.geysermc.geyser.skin.FakeHeadProvider;
 import org.geysermc.geyser.translator.inventory.InventoryTranslator;
@@ -100,6 +102,8 @@ public class BedrockInventoryTransactionTranslator extends PacketTranslator<Inve
 
     @Override
     public void translate(GeyserSession session, InventoryTransactionPacket packet) {
+        invalidateContents(session, packet);
+
         if (packet.getTransactionType() == InventoryTransactionType.NORMAL && packet.getActions().size() == 3) {
             InventoryActionData containerAction = packet.getActions().get(0);
             if (containerAction.getSource().getType() == InventorySource.Type.CONTAINER &&
@@ -663,6 +667,27 @@ public class BedrockInventoryTransactionTranslator extends PacketTranslator<Inve
      * @param session the Geyser Session
      * @param target the position to look at
      */
+    /**
+     * The client predicts what a transaction does to its inventory, so what we last sent for the containers
+     * involved may no longer be what the client shows.
+     */
+    private static void invalidateContents(GeyserSession session, InventoryTransactionPacket packet) {
+        InventoryContentCache cache = session.getInventoryContentCache();
+        switch (packet.getTransactionType()) {
+            // The client doesn't say which container is out of sync
+            case INVENTORY_MISMATCH -> cache.invalidate();
+            case NORMAL -> {
+                for (InventoryActionData action : packet.getActions()) {
+                    if (action.getSource().getType() == InventorySource.Type.CONTAINER) {
+                        cache.invalidate(action.getSource().getContainerId());
+                    }
+                }
+            }
+            // Using an item can only change the item in hand
+            default -> cache.invalidate(ContainerId.INVENTORY);
+        }
+    }
+
     private void lookAt(GeyserSession session, Vector3f target) {
         // Use the bounding box's position since we need the player's position seen by the Java server
         Vector3d playerPosition = session.getCollisionManager().getPlayerBoundingBox().getBottomCenter();
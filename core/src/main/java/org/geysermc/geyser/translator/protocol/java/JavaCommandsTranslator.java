@@ -26,9 +26,9 @@
 package org.geysermc.geyser.translator.protocol.java;
 
 import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import it.unimi.dsi.fastutil.Hash;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
@@ -37,8 +37,10 @@ import lombok.ToString;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.bedrock.data.command.*;
 import org.cloudburstmc.protocol.bedrock.packet.AvailableCommandsPacket;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateSoftEnumPacket;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.event.java.ServerDefineCommandsEvent;
 import org.geysermc.geyser.command.CommandRegistry;
@@ -56,6 +58,7 @@ import org.geysermc.mcprotocollib.protocol.data.game.entity.attribute.AttributeT
 import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.ClientboundCommandsPacket;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 @SuppressWarnings("removal") // We know. This is our doing.
@@ -71,6 +74,20 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
     private static final String[] ENUM_BOOLEAN = {"true", "false"};
     private static final String[] VALID_COLORS;
     private static final String[] VALID_SCOREBOARD_SLOTS;
+    /**
+     * Teams differ between sessions, so the shared translation uses an empty soft enum that each session fills in
+     * once the commands are sent.
+     */
+    private static final CommandEnumData TEAMS = new CommandEnumData("Geyser_Teams", Collections.emptyMap(), true);
+
+    /**
+     * Players on the same backend server almost always receive the same command tree, so the translated commands are
+     * shared between sessions. Everything the translation reads from the session is part of the key.
+     */
+    private static final Cache<TranslationKey, Map<BedrockCommandInfo, Set<String>>> TRANSLATED_COMMANDS = CacheBuilder.newBuilder()
+            .maximumSize(16)
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
 
     private static final Hash.Strategy<BedrockCommandInfo> PARAM_STRATEGY = new Hash.Strategy<>() {
         @Override
@@ -131,40 +148,17 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
         }
 
         CommandRegistry registry = session.getGeyser().commandRegistry();
-        CommandNode[] nodes = packet.getNodes();
-        List<CommandData> commandData = new ArrayList<>();
-        IntSet commandNodes = new IntOpenHashSet();
-        Set<String> knownAliases = new HashSet<>();
-        Map<BedrockCommandInfo, Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(PARAM_STRATEGY);
-        Int2ObjectMap<List<CommandNode>> commandArgs = new Int2ObjectOpenHashMap<>();
-
-        // Get the first node, it should be a root node
-        CommandNode rootNode = nodes[packet.getFirstNodeIndex()];
-
-        // Loop through the root nodes to get all commands
-        for (int nodeIndex : rootNode.getChildIndices()) {
-            CommandNode node = nodes[nodeIndex];
-
-            // Make sure we don't have duplicated commands (happens if there is more than 1 root node)
-            if (!commandNodes.add(nodeIndex) || !knownAliases.add(node.getName().toLowerCase(Locale.ROOT))) continue;
-
-            // Get and update the commandArgs list with the found arguments
-            if (node.getChildIndices().length >= 1) {
-                for (int childIndex : node.getChildIndices()) {
-                    commandArgs.computeIfAbsent(nodeIndex, ($) -> new ArrayList<>()).add(nodes[childIndex]);
-                }
-            }
-
-            // Get and parse all params
-            CommandOverloadData[] params = getParams(session, nodes[nodeIndex], nodes);
-
-            // Insert the alias name into the command list
-            String name = node.getName().toLowerCase(Locale.ROOT);
-            String description = registry.description(name, session.locale());
-            BedrockCommandInfo info = new BedrockCommandInfo(name, description, params);
-            commands.computeIfAbsent(info, $ -> new HashSet<>()).add(name);
+        TranslationKey key = new TranslationKey(session, registry, packet);
+        Map<BedrockCommandInfo, Set<String>> translatedCommands = TRANSLATED_COMMANDS.getIfPresent(key);
+        if (translatedCommands == null) {
+            translatedCommands = translateCommands(session, registry, packet.getNodes(), packet.getFirstNodeIndex());
+            TRANSLATED_COMMANDS.put(key, translatedCommands);
         }
 
+        // Event listeners may remove commands, so they get a copy of the shared translation
+        Map<BedrockCommandInfo, Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(translatedCommands, PARAM_STRATEGY);
+        List<CommandData> commandData = new ArrayList<>();
+
         var eventBus = session.getGeyser().eventBus();
 
         var event = new ServerDefineCommandsEvent(session, commands.keySet());
@@ -208,6 +202,46 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
 
         // Finally, send the commands to the client
         session.sendUpstreamPacket(availableCommandsPacket);
+
+        Map<String, Set<CommandEnumConstraint>> teams = session.getWorldCache().getScoreboard().getTeamNames();
+        if (!teams.isEmpty()) {
+            UpdateSoftEnumPacket teamsPacket = new UpdateSoftEnumPacket();
+            teamsPacket.setType(SoftEnumUpdateType.ADD);
+            teamsPacket.setSoftEnum(new CommandEnumData(TEAMS.getName(), teams, true));
+            session.sendUpstreamPacket(teamsPacket);
+        }
+    }
+
+    /**
+     * Translates the Java command tree into Bedrock commands, merging commands with identical parameters into aliases.
+     *
+     * @return the Bedrock command info, mapped to every command name that uses it
+     */
+    private static Map<BedrockCommandInfo, Set<String>> translateCommands(GeyserSession session, CommandRegistry registry, CommandNode[] nodes, int firstNodeIndex) {
+        IntSet commandNodes = new IntOpenHashSet();
+        Set<String> knownAliases = new HashSet<>();
+        Map<BedrockCommandInfo, Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(PARAM_STRATEGY);
+
+        // Get the first node, it should be a root node
+        CommandNode rootNode = nodes[firstNodeIndex];
+
+        // Loop through the root nodes to get all commands
+        for (int nodeIndex : rootNode.getChildIndices()) {
+            CommandNode node = nodes[nodeIndex];
+
+            // Make sure we don't have duplicated commands (happens if there is more than 1 root node)
+            if (!commandNodes.add(nodeIndex) || !knownAliases.add(node.getName().toLowerCase(Locale.ROOT))) continue;
+
+            // Get and parse all params
+            CommandOverloadData[] params = getParams(session, nodes[nodeIndex], nodes);
+
+            // Insert the alias name into the command list
+            String name = node.getName().toLowerCase(Locale.ROOT);
+            String description = registry.description(name, session.locale());
+            BedrockCommandInfo info = new BedrockCommandInfo(name, description, params);
+            commands.computeIfAbsent(info, $ -> new HashSet<>()).add(name);
+        }
+        return commands;
     }
 
     /**
@@ -270,7 +304,7 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
             case RESOURCE -> handleResource(context, ((ResourceProperties) node.getProperties()).getRegistryKey(), false);
             case RESOURCE_OR_TAG -> handleResource(context, ((ResourceProperties) node.getProperties()).getRegistryKey(), true);
             case DIMENSION -> context.session.getLevels();
-            case TEAM -> context.getTeams(); // Note: as of Java 1.19.3, objectives are currently parsed from the server
+            case TEAM -> TEAMS; // Note: as of Java 1.19.3, objectives are currently parsed from the server
             default -> CommandParam.STRING;
         };
     }
@@ -295,6 +329,19 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
     {
     }
 
+    /**
+     * Everything a command translation depends on. The command nodes are compared by value, which is still far cheaper
+     * than translating them again.
+     */
+    record TranslationKey(CommandRegistry registry, List<CommandNode> nodes, int firstNodeIndex, String locale,
+                          @Nullable List<String> levels, List<String> enchantments) {
+        TranslationKey(GeyserSession session, CommandRegistry registry, ClientboundCommandsPacket packet) {
+            this(registry, Arrays.asList(packet.getNodes()), packet.getFirstNodeIndex(), session.locale(),
+                    session.getLevels() == null ? null : Arrays.asList(session.getLevels()),
+                    session.getRegistryCache().enchantments().values().stream().map(Enchantment::identifier).toList());
+        }
+    }
+
     /**
      * Stores command completions so we don't have to rebuild the same values multiple times.
      */
@@ -306,7 +353,6 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
         private String[] enchantments;
         private String[] entityTypes;
         private String[] itemNames;
-        private CommandEnumData teams;
 
         CommandBuilderContext(GeyserSession session) {
             this.session = session;
@@ -351,15 +397,6 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
             }
             return (itemNames = Registries.JAVA_ITEM_IDENTIFIERS.get().keySet().toArray(new String[0]));
         }
-
-        private CommandEnumData getTeams() {
-            if (teams != null) {
-                return teams;
-            }
-            return (teams = new CommandEnumData("Geyser_Teams",
-                    session.getWorldCache().getScoreboard().getTeamNames(), true
-            ));
-        }
     }
 
     @Getter
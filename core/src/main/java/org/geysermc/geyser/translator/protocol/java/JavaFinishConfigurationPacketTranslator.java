@@ -45,5 +45,6 @@ public class JavaFinishConfigurationPacketTranslator extends PacketTranslator<Cl
         }
         session.sendUpstreamPacket(playerListPacket);
         session.getEntityCache().removeAllPlayerEntities();
+        session.getPlayerListQueue().clear();
     }
 }
@@ -52,6 +52,7 @@ public class JavaPlayerInfoRemoveTranslator extends PacketTranslator<Clientbound
             } else {
                 removeId = id;
             }
+            session.getPlayerListQueue().remove(removeId);
             translate.getEntries().add(new PlayerListPacket.Entry(removeId));
         }
 
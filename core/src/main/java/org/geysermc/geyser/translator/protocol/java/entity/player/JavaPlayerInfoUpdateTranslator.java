@@ -102,7 +102,7 @@ public class JavaPlayerInfoUpdateTranslator extends PacketTranslator<Clientbound
         }
 
         if (actions.contains(PlayerListEntryAction.UPDATE_LISTED)) {
-            List<PlayerListPacket.Entry> toAdd = new ArrayList<>();
+            List<PlayerEntity> toAdd = new ArrayList<>();
             List<PlayerListPacket.Entry> toRemove = new ArrayList<>();
 
             for (PlayerListEntry entry : packet.getEntries()) {
@@ -113,18 +113,16 @@ public class JavaPlayerInfoUpdateTranslator extends PacketTranslator<Clientbound
                 }
 
                 if (entry.isListed()) {
-                    PlayerListPacket.Entry playerListEntry = SkinManager.buildCachedEntry(session, entity);
-                    toAdd.add(playerListEntry);
+                    toAdd.add(entity);
                 } else {
+                    session.getPlayerListQueue().remove(entity.getTabListUuid());
                     toRemove.add(new PlayerListPacket.Entry(entity.getTabListUuid()));
                 }
             }
 
             if (!toAdd.isEmpty()) {
-                PlayerListPacket tabListPacket = new PlayerListPacket();
-                tabListPacket.setAction(PlayerListPacket.Action.ADD);
-                tabListPacket.getEntries().addAll(toAdd);
-                session.sendUpstreamPacket(tabListPacket);
+                // Rate-limited, as each entry carries a skin
+                session.getPlayerListQueue().add(toAdd);
             }
             if (!toRemove.isEmpty()) {
                 PlayerListPacket tabListPacket = new PlayerListPacket();
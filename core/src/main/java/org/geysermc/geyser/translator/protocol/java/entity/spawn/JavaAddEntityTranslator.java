@@ -85,6 +85,7 @@ public class JavaAddEntityTranslator extends PacketTranslator<ClientboundAddEnti
             }
             session.getEntityCache().cacheEntity(entity);
 
+            session.getPlayerListQueue().flush(entity);
             entity.sendPlayer();
             SkinManager.requestAndHandleSkinAndCape(entity, session, null);
             return;
@@ -28,6 +28,7 @@ package org.geysermc.geyser.translator.protocol.java.level;
 import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundChunkBatchFinishedPacket;
 import org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.level.ServerboundChunkBatchReceivedPacket;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ChunkBatchSizeCalculator;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
 
@@ -37,8 +38,10 @@ public class JavaChunkBatchFinishedTranslator extends PacketTranslator<Clientbou
     @Override
     public void translate(GeyserSession session, ClientboundChunkBatchFinishedPacket packet) {
         // server just sent a batch of LevelChunkWithLightPackets
-        // the vanilla client uses a ChunkBatchSizeCalculator to calculate the desiredChunksPerTick,
-        // but currently we just send an arbitrary value. server clamps the value between 0.01 and 64.
-        session.sendDownstreamGamePacket(new ServerboundChunkBatchReceivedPacket(20));
+        // tell it how many chunks per tick we (and the Bedrock client behind us) can keep up with.
+        // server clamps the value between 0.01 and 64.
+        ChunkBatchSizeCalculator calculator = session.getChunkBatchSizeCalculator();
+        calculator.onBatchFinished(System.nanoTime(), packet.getBatchSize(), session.getUpstream().isBacklogged());
+        session.sendDownstreamGamePacket(new ServerboundChunkBatchReceivedPacket(calculator.getDesiredChunksPerTick()));
     }
 }
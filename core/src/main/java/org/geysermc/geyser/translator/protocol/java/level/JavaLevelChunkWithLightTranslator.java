@@ -46,7 +46,7 @@ import org.geysermc.geyser.level.chunk.GeyserChunkSection;
 import org.geysermc.geyser.level.chunk.bitarray.BitArray;
 import org.geysermc.geyser.level.chunk.bitarray.BitArrayVersion;
 import org.geysermc.geyser.level.chunk.bitarray.SingletonBitArray;
-import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.registry.type.BlockMappings;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.translator.level.BiomeTranslator;
 import org.geysermc.geyser.translator.level.block.entity.BedrockChunkWantsBlockEntityTag;
@@ -80,7 +80,8 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
 
     @Override
     public void translate(GeyserSession session, ClientboundLevelChunkWithLightPacket packet) {
-        final boolean useExtendedCollisions = !session.getBlockMappings().getExtendedCollisionBoxes().isEmpty();
+        final BlockMappings blockMappings = session.getBlockMappings();
+        final boolean useExtendedCollisions = !blockMappings.getExtendedCollisionBoxes().isEmpty();
 
         if (session.isSpawned()) {
             ChunkUtils.updateChunkPosition(session, session.getPlayerEntity().getPosition().toInt());
@@ -162,12 +163,12 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                     GeyserChunkSection section = new GeyserChunkSection(session.getBlockMappings().getBedrockAir().getRuntimeId(), subChunkIndex);
                     for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
                         int javaId = javaData.get(yzx);
-                        BlockState state = BlockState.of(javaId);
-                        int bedrockId = session.getBlockMappings().getBedrockBlockId(javaId);
+                        int traits = blockMappings.getChunkTraits(javaId);
+                        int bedrockId = traits & BlockMappings.RUNTIME_ID_MASK;
                         int xzy = indexYZXtoXZY(yzx);
                         section.getBlockStorageArray()[0].setFullBlock(xzy, bedrockId);
 
-                        if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
+                        if ((traits & BlockMappings.TRAIT_WATERLOGGED) != 0) {
                             section.getBlockStorageArray()[1].setFullBlock(xzy, session.getBlockMappings().getBedrockWater().getRuntimeId());
                         }
 
@@ -180,8 +181,8 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                                 EXTENDED_COLLISIONS_STORAGE.get().set(yzx, 0, sectionY);
                                 continue;
                             }
-                            BlockDefinition aboveBedrockExtendedCollisionDefinition = session.getBlockMappings().getExtendedCollisionBoxes().get(javaId);
-                            if (aboveBedrockExtendedCollisionDefinition != null) {
+                            if ((traits & BlockMappings.TRAIT_EXTENDED_COLLISION) != 0) {
+                                BlockDefinition aboveBedrockExtendedCollisionDefinition = blockMappings.getExtendedCollisionBoxes().get(javaId);
                                 EXTENDED_COLLISIONS_STORAGE.get().set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
                                 if ((xzy & 0xF) == 15) {
                                     thisExtendedCollisionNextSection = true;
@@ -190,7 +191,9 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                         }
 
                         // Check if block is piston or flower to see if we'll need to create additional block entities, as they're only block entities in Bedrock
-                        if (state.block() instanceof BedrockChunkWantsBlockEntityTag blockEntity) {
+                        if ((traits & BlockMappings.TRAIT_BEDROCK_BLOCK_ENTITY) != 0) {
+                            BlockState state = BlockState.of(javaId);
+                            BedrockChunkWantsBlockEntityTag blockEntity = (BedrockChunkWantsBlockEntityTag) state.block();
                             bedrockBlockEntities.add(blockEntity.createTag(session,
                                     Vector3i.from((packet.getX() << 4) + (yzx & 0xF), ((sectionY + yOffset) << 4) + ((yzx >> 8) & 0xF), (packet.getZ() << 4) + ((yzx >> 4) & 0xF)),
                                     state
@@ -205,10 +208,10 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                 if (javaPalette instanceof SingletonPalette) {
                     // There's only one block here. Very easy!
                     int javaId = javaPalette.idToState(0);
-                    int bedrockId = session.getBlockMappings().getBedrockBlockId(javaId);
-                    BlockStorage blockStorage = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(bedrockId));
+                    int traits = blockMappings.getChunkTraits(javaId);
+                    BlockStorage blockStorage = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(traits & BlockMappings.RUNTIME_ID_MASK));
 
-                    if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
+                    if ((traits & BlockMappings.TRAIT_WATERLOGGED) != 0) {
                         BlockStorage waterlogged = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(session.getBlockMappings().getBedrockWater().getRuntimeId()));
                         sections[bedrockSectionY] = new GeyserChunkSection(new BlockStorage[] {blockStorage, waterlogged}, subChunkIndex);
                     } else {
@@ -231,9 +234,10 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                 int extendedCollisionsInPalette = 0;
                 for (int i = 0; i < javaPalette.size(); i++) {
                     int javaId = javaPalette.idToState(i);
-                    bedrockPalette.add(session.getBlockMappings().getBedrockBlockId(javaId));
+                    int traits = blockMappings.getChunkTraits(javaId);
+                    bedrockPalette.add(traits & BlockMappings.RUNTIME_ID_MASK);
 
-                    if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
+                    if ((traits & BlockMappings.TRAIT_WATERLOGGED) != 0) {
                         waterloggedPaletteIds.set(i);
                     }
 
@@ -242,16 +246,14 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                     }
 
                     if (useExtendedCollisions) {
-                        if (session.getBlockMappings().getExtendedCollisionBoxes().get(javaId) != null) {
+                        if ((traits & BlockMappings.TRAIT_EXTENDED_COLLISION) != 0) {
                             extendedCollision = true;
                             extendedCollisionsInPalette++;
                         }
                     }
 
                     // Check if block is piston, flower or cauldron to see if we'll need to create additional block entities, as they're only block entities in Bedrock
-                    // TODO this needs a performance check when my head is clearer
-                    BlockState state = BlockState.of(javaId);
-                    if (state.block() instanceof BedrockChunkWantsBlockEntityTag) {
+                    if ((traits & BlockMappings.TRAIT_BEDROCK_BLOCK_ENTITY) != 0) {
                         bedrockOnlyBlockEntityIds.set(i);
                     }
                 }
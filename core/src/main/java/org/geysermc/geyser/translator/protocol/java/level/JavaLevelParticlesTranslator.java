@@ -48,6 +48,7 @@ import org.geysermc.geyser.entity.type.Entity;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.ParticleMapping;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ParticleBudget;
 import org.geysermc.geyser.translator.item.ItemTranslator;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
@@ -64,15 +65,29 @@ public class JavaLevelParticlesTranslator extends PacketTranslator<ClientboundLe
 
     @Override
     public void translate(GeyserSession session, ClientboundLevelParticlesPacket packet) {
+        ParticleBudget budget = session.getParticleBudget();
+        if (budget.cull(packet.getX(), packet.getY(), packet.getZ(), packet.getAmount())) {
+            return;
+        }
+
         Function<Vector3f, BedrockPacket> particleCreateFunction = createParticle(session, packet.getParticle());
         if (particleCreateFunction != null) {
             if (packet.getAmount() == 0) {
                 // 0 means don't apply the offset
-                Vector3f position = Vector3f.from(packet.getX(), packet.getY(), packet.getZ());
-                session.sendUpstreamPacket(particleCreateFunction.apply(position));
+                if (budget.take(1) == 1) {
+                    Vector3f position = Vector3f.from(packet.getX(), packet.getY(), packet.getZ());
+                    session.sendUpstreamPacket(particleCreateFunction.apply(position));
+                }
             } else {
-                Random random = ThreadLocalRandom.current();
                 int amount = Math.min(MAX_PARTICLES, packet.getAmount());
+                if (packet.getOffsetX() == 0 && packet.getOffsetY() == 0 && packet.getOffsetZ() == 0) {
+                    // Every particle would be in the exact same spot
+                    budget.addMerged(amount - 1);
+                    amount = 1;
+                }
+                amount = budget.take(amount);
+
+                Random random = ThreadLocalRandom.current();
                 for (int i = 0; i < amount; i++) {
                     double offsetX = random.nextGaussian() * (double) packet.getOffsetX();
                     double offsetY = random.nextGaussian() * (double) packet.getOffsetY();
@@ -83,7 +83,7 @@ public class JavaMapItemDataTranslator extends PacketTranslator<ClientboundMapIt
 
         // Client will ignore if sent too early
         if (session.isSentSpawnPacket()) {
-            session.sendUpstreamPacket(mapItemDataPacket);
+            session.getMapDataQueue().send(mapItemDataPacket);
         } else {
             session.getUpstream().queuePostStartGamePacket(mapItemDataPacket);
         }
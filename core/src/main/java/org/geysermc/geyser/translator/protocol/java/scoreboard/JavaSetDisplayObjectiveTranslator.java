@@ -27,7 +27,6 @@ package org.geysermc.geyser.translator.protocol.java.scoreboard;
 
 import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.scoreboard.ClientboundSetDisplayObjectivePacket;
 import org.geysermc.geyser.scoreboard.Scoreboard;
-import org.geysermc.geyser.scoreboard.ScoreboardUpdater;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.cache.WorldCache;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
@@ -44,10 +43,8 @@ public class JavaSetDisplayObjectiveTranslator extends PacketTranslator<Clientbo
 
         scoreboard.displayObjective(packet.getName(), packet.getPosition());
 
-        // ScoreboardUpdater will handle it for us if the packets per second
+        // The updater holds this back for the next session tick if the packets per second
         // (for score and team packets) is higher than the first threshold
-        if (pps < ScoreboardUpdater.FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-            scoreboard.onUpdate();
-        }
+        worldCache.getScoreboardUpdater().update(pps);
     }
 }
@@ -33,7 +33,6 @@ import org.geysermc.geyser.GeyserLogger;
 import org.geysermc.geyser.entity.type.player.PlayerEntity;
 import org.geysermc.geyser.scoreboard.Objective;
 import org.geysermc.geyser.scoreboard.Scoreboard;
-import org.geysermc.geyser.scoreboard.ScoreboardUpdater;
 import org.geysermc.geyser.scoreboard.UpdateType;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.cache.WorldCache;
@@ -94,10 +93,8 @@ public class JavaSetObjectiveTranslator extends PacketTranslator<ClientboundSetO
             return;
         }
 
-        // ScoreboardUpdater will handle it for us if the packets per second
+        // The updater holds this back for the next session tick if the packets per second
         // (for score and team packets) is higher than the first threshold
-        if (pps < ScoreboardUpdater.FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-            scoreboard.onUpdate();
-        }
+        worldCache.getScoreboardUpdater().update(pps);
     }
 }
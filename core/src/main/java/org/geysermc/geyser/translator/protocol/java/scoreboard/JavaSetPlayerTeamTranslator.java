@@ -32,7 +32,6 @@ import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.scoreboard.
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.GeyserLogger;
 import org.geysermc.geyser.scoreboard.Scoreboard;
-import org.geysermc.geyser.scoreboard.ScoreboardUpdater;
 import org.geysermc.geyser.scoreboard.Team;
 import org.geysermc.geyser.scoreboard.UpdateType;
 import org.geysermc.geyser.session.GeyserSession;
@@ -137,10 +136,8 @@ public class JavaSetPlayerTeamTranslator extends PacketTranslator<ClientboundSet
             case REMOVE -> scoreboard.removeTeam(packet.getTeamName());
         }
 
-        // ScoreboardUpdater will handle it for us if the packets per second
+        // The updater holds this back for the next session tick if the packets per second
         // (for score and team packets) is higher than the first threshold
-        if (pps < ScoreboardUpdater.FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-            scoreboard.onUpdate();
-        }
+        session.getWorldCache().getScoreboardUpdater().update(pps);
     }
 }
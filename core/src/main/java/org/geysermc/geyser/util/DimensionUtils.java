@@ -70,6 +70,7 @@ public class DimensionUtils {
         session.getEntityCache().removeAllEntities();
         session.getItemFrameCache().clear();
         session.getLodestoneCache().clear();
+        session.getMapDataQueue().flush();
         session.getPistonCache().clear();
         session.getSkullCache().clear();
 
@@ -91,6 +91,7 @@ public class InventoryUtils {
     }
 
     public static void displayInventory(GeyserSession session, Inventory inventory) {
+        session.getInventoryContentCache().invalidate();
         InventoryTranslator translator = session.getInventoryTranslator();
         if (translator.prepareInventory(session, inventory)) {
             if (translator instanceof DoubleChestInventoryTranslator && !((Container) inventory).isUsingRealBlock()) {
@@ -135,6 +136,7 @@ public class InventoryUtils {
         }
         session.setInventoryTranslator(InventoryTranslator.PLAYER_INVENTORY_TRANSLATOR);
         session.setOpenInventory(null);
+        session.getInventoryContentCache().invalidate();
     }
 
     public static @Nullable Inventory getInventory(GeyserSession session, int javaId) {
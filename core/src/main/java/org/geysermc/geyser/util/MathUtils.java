@@ -178,4 +178,41 @@ public class MathUtils {
     public static long chunkPositionToLong(int x, int z) {
         return ((x & 0xFFFFFFFFL) << 32L) | (z & 0xFFFFFFFFL);
     }
+
+    /**
+     * Packs a block position into a single {@code long}, in the same layout as Java Edition:
+     * 26 bits each for X and Z and 12 bits for Y.
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return the packed coordinates
+     */
+    public static long blockPositionToLong(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (y & 0xFFFL);
+    }
+
+    /**
+     * @param position a position packed with {@link #blockPositionToLong(int, int, int)}
+     * @return the X coordinate
+     */
+    public static int unpackBlockX(long position) {
+        return (int) (position >> 38);
+    }
+
+    /**
+     * @param position a position packed with {@link #blockPositionToLong(int, int, int)}
+     * @return the Y coordinate
+     */
+    public static int unpackBlockY(long position) {
+        return (int) (position << 52 >> 52);
+    }
+
+    /**
+     * @param position a position packed with {@link #blockPositionToLong(int, int, int)}
+     * @return the Z coordinate
+     */
+    public static int unpackBlockZ(long position) {
+        return (int) (position << 26 >> 38);
+    }
 }
@@ -25,6 +25,7 @@
 
 package org.geysermc.geyser.util;
 
+import com.google.common.base.Suppliers;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.vector.Vector3f;
 import org.cloudburstmc.protocol.bedrock.data.LevelEvent;
@@ -38,11 +39,41 @@ import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.SoundMapping;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.mcprotocollib.protocol.data.game.level.sound.BuiltinSound;
 import org.geysermc.mcprotocollib.protocol.data.game.level.sound.Sound;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 public final class SoundUtils {
+    private static final Map<String, SoundEvent> SOUND_EVENTS;
+    /**
+     * Builtin Java sounds, by ordinal, already resolved to what we play on Bedrock. Built once the sound mappings are loaded.
+     */
+    private static final Supplier<ResolvedSound[]> BUILTIN_SOUNDS = Suppliers.memoize(() -> {
+        BuiltinSound[] sounds = BuiltinSound.values();
+        ResolvedSound[] resolved = new ResolvedSound[sounds.length];
+        for (BuiltinSound sound : sounds) {
+            ResolvedSound resolvedSound = resolve(sound.getName());
+            if (resolvedSound.type() == SoundType.NONE && resolvedSound.mapping().isLevelEvent()) {
+                GeyserImpl.getInstance().getLogger().warning("Sound mapping for " + resolvedSound.javaIdentifier()
+                        + " has an unknown level event: " + resolvedSound.mapping().getBedrock());
+            }
+            resolved[sound.ordinal()] = resolvedSound;
+        }
+        return resolved;
+    });
+
+    static {
+        SoundEvent[] values = SoundEvent.values();
+        SOUND_EVENTS = new HashMap<>(values.length);
+        for (SoundEvent value : values) {
+            SOUND_EVENTS.put(value.name(), value);
+        }
+    }
 
     /**
      * Maps a sound name to a sound event, null if one
@@ -52,11 +83,10 @@ public final class SoundUtils {
      * @return a sound event from the given sound
      */
     public static @Nullable SoundEvent toSoundEvent(String sound) {
-        try {
-            return SoundEvent.valueOf(sound.toUpperCase(Locale.ROOT).replace(".", "_"));
-        } catch (Exception ex) {
+        if (sound == null) {
             return null;
         }
+        return SOUND_EVENTS.get(sound.toUpperCase(Locale.ROOT).replace(".", "_"));
     }
 
     /**
@@ -102,41 +132,38 @@ public final class SoundUtils {
      * @param pitch the pitch
      */
     public static void playSound(GeyserSession session, Sound javaSound, Vector3f position, float volume, float pitch) {
-        String soundIdentifier = removeMinecraftNamespace(javaSound.getName());
-
-        SoundMapping soundMapping = Registries.SOUNDS.get(soundIdentifier);
-        if (soundMapping == null) {
-            session.getGeyser().getLogger().debug("[Builtin] Sound mapping for " + soundIdentifier + " not found; assuming custom.");
-            playSound(session, soundIdentifier, position, volume, pitch);
-            return;
+        ResolvedSound sound;
+        if (javaSound instanceof BuiltinSound builtinSound) {
+            sound = BUILTIN_SOUNDS.get()[builtinSound.ordinal()];
+        } else {
+            sound = resolve(javaSound.getName());
         }
 
-        if (soundMapping.getPlaysound() != null) {
+        switch (sound.type()) {
+            case CUSTOM -> {
+                session.getGeyser().getLogger().debug("[Builtin] Sound mapping for " + sound.javaIdentifier() + " not found; assuming custom.");
+                playSound(session, sound.playSound(), position, volume, pitch);
+            }
             // We always prefer the PlaySound mapping because we can control volume and pitch
-            playSound(session, soundMapping.getPlaysound(), position, volume, pitch);
-            return;
+            case PLAY_SOUND -> playSound(session, sound.playSound(), position, volume, pitch);
+            case LEVEL_EVENT -> {
+                LevelEventPacket levelEventPacket = new LevelEventPacket();
+                levelEventPacket.setPosition(position);
+                levelEventPacket.setData(0);
+                levelEventPacket.setType(sound.levelEvent());
+                session.sendUpstreamPacket(levelEventPacket);
+            }
+            case LEVEL_SOUND -> playLevelSound(session, sound, position, pitch);
+            case NONE -> session.getGeyser().getLogger().debug("[Builtin] Sound for original '" + sound.javaIdentifier() + "' to mappings '" + sound.mapping().getBedrock()
+                    + "' was not a playable level sound, or has yet to be mapped to an enum in SoundEvent.");
         }
+    }
 
-        if (soundMapping.isLevelEvent()) {
-            LevelEventPacket levelEventPacket = new LevelEventPacket();
-            levelEventPacket.setPosition(position);
-            levelEventPacket.setData(0);
-            levelEventPacket.setType(LevelEvent.valueOf(soundMapping.getBedrock()));
-            session.sendUpstreamPacket(levelEventPacket);
-            return;
-        }
+    private static void playLevelSound(GeyserSession session, ResolvedSound resolved, Vector3f position, float pitch) {
+        SoundMapping soundMapping = resolved.mapping();
+        SoundEvent sound = resolved.soundEvent();
 
         LevelSoundEventPacket soundPacket = new LevelSoundEventPacket();
-        SoundEvent sound = SoundUtils.toSoundEvent(soundMapping.getBedrock());
-        if (sound == null) {
-            sound = SoundUtils.toSoundEvent(soundIdentifier);
-        }
-        if (sound == null) {
-            session.getGeyser().getLogger().debug("[Builtin] Sound for original '" + soundIdentifier + "' to mappings '" + soundMapping.getBedrock()
-                + "' was not a playable level sound, or has yet to be mapped to an enum in SoundEvent.");
-            return;
-        }
-
         soundPacket.setSound(sound);
         soundPacket.setPosition(position);
         soundPacket.setIdentifier(soundMapping.getIdentifier());
@@ -146,9 +173,8 @@ public final class SoundUtils {
             // Bedrock has a number for each type of note, then proceeds up the scale by adding to that number
             soundPacket.setExtraData(soundMapping.getExtraData() + (int) (Math.round((Math.log10(pitch) / Math.log10(2)) * 12)) + 12);
         } else if (sound == SoundEvent.PLACE && soundMapping.getExtraData() == -1) {
-            if (!soundMapping.getIdentifier().equals(":")) {
-                int javaId = BlockRegistries.JAVA_IDENTIFIER_TO_ID.get().getOrDefault(soundMapping.getIdentifier(), Block.JAVA_AIR_ID);
-                soundPacket.setExtraData(session.getBlockMappings().getBedrockBlockId(javaId));
+            if (resolved.placedBlock() != -1) {
+                soundPacket.setExtraData(session.getBlockMappings().getBedrockBlockId(resolved.placedBlock()));
             } else {
                 session.getGeyser().getLogger().debug("PLACE sound mapping identifier was invalid! Please report: " + soundMapping);
             }
@@ -162,6 +188,75 @@ public final class SoundUtils {
         session.sendUpstreamPacket(soundPacket);
     }
 
+    /**
+     * Works out what a Java sound should be played as on Bedrock. Everything here only depends on the sound mappings,
+     * so it can be done ahead of time for builtin sounds.
+     */
+    private static ResolvedSound resolve(String javaName) {
+        String soundIdentifier = removeMinecraftNamespace(javaName);
+        return resolve(soundIdentifier, Registries.SOUNDS.get(soundIdentifier),
+                identifier -> BlockRegistries.JAVA_IDENTIFIER_TO_ID.get().getOrDefault(identifier, Block.JAVA_AIR_ID));
+    }
+
+    /**
+     * @param blockIds looks up the Java block state of a block identifier
+     */
+    static ResolvedSound resolve(String soundIdentifier, @Nullable SoundMapping soundMapping, ToIntFunction<String> blockIds) {
+        if (soundMapping == null) {
+            return new ResolvedSound(SoundType.CUSTOM, soundIdentifier, null, soundIdentifier, null, null, -1);
+        }
+
+        if (soundMapping.getPlaysound() != null) {
+            return new ResolvedSound(SoundType.PLAY_SOUND, soundIdentifier, soundMapping, soundMapping.getPlaysound(), null, null, -1);
+        }
+
+        if (soundMapping.isLevelEvent()) {
+            LevelEvent levelEvent;
+            try {
+                levelEvent = LevelEvent.valueOf(soundMapping.getBedrock());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                // Don't let one bad mapping stop every other builtin sound from resolving
+                return new ResolvedSound(SoundType.NONE, soundIdentifier, soundMapping, null, null, null, -1);
+            }
+            return new ResolvedSound(SoundType.LEVEL_EVENT, soundIdentifier, soundMapping, null, levelEvent, null, -1);
+        }
+
+        SoundEvent sound = SoundUtils.toSoundEvent(soundMapping.getBedrock());
+        if (sound == null) {
+            sound = SoundUtils.toSoundEvent(soundIdentifier);
+        }
+        if (sound == null) {
+            return new ResolvedSound(SoundType.NONE, soundIdentifier, soundMapping, null, null, null, -1);
+        }
+
+        int placedBlock = -1;
+        if (sound == SoundEvent.PLACE && soundMapping.getExtraData() == -1 && !soundMapping.getIdentifier().equals(":")) {
+            placedBlock = blockIds.applyAsInt(soundMapping.getIdentifier());
+        }
+        return new ResolvedSound(SoundType.LEVEL_SOUND, soundIdentifier, soundMapping, null, null, sound, placedBlock);
+    }
+
+    enum SoundType {
+        /**
+         * No mapping exists; pass the Java name through as a Bedrock sound name.
+         */
+        CUSTOM,
+        PLAY_SOUND,
+        LEVEL_EVENT,
+        LEVEL_SOUND,
+        /**
+         * Mapped, but we don't know how to play it.
+         */
+        NONE
+    }
+
+    /**
+     * @param placedBlock for PLACE level sounds, the Java block state whose Bedrock ID should be sent, or -1
+     */
+    record ResolvedSound(SoundType type, String javaIdentifier, @Nullable SoundMapping mapping, @Nullable String playSound,
+                                 @Nullable LevelEvent levelEvent, @Nullable SoundEvent soundEvent, int placedBlock) {
+    }
+
     private SoundUtils() {
     }
 }
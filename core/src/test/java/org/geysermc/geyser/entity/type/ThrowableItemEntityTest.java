@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.entity.type;
+
+import org.cloudburstmc.math.vector.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ThrowableItemEntityTest {
+    private static final float SNOWBALL_DRAG = 0.99f;
+    private static final float SNOWBALL_GRAVITY = 0.03f;
+    private static final int FLIGHT_TICKS = 60;
+
+    @Test
+    public void testSimulationFollowsServerTrajectory() {
+        // A snowball thrown at full speed, slightly upwards
+        double[] start = {0, 64, 0};
+        double[] velocity = {1.2, 0.6, 0.7};
+        List<Vector3f> server = serverTrajectory(start, velocity);
+
+        Vector3f position = Vector3f.from(start[0], start[1], start[2]);
+        Vector3f motion = Vector3f.from(velocity[0], velocity[1], velocity[2]);
+        for (int tick = 1; tick < FLIGHT_TICKS; tick++) {
+            position = position.add(motion);
+            motion = ThrowableEntity.nextMotion(motion, SNOWBALL_DRAG, SNOWBALL_GRAVITY);
+
+            // Position updates can arrive up to a tick before or after ours
+            for (int offset = -1; offset <= 1; offset++) {
+                Vector3f javaPosition = server.get(tick + offset);
+                assertTrue(ThrowableItemEntity.matchesSimulation(javaPosition, position, motion),
+                        "Tick " + tick + " with offset " + offset + " would be corrected");
+            }
+        }
+    }
+
+    @Test
+    public void testStoppedProjectileIsCorrected() {
+        double[] start = {0, 64, 0};
+        double[] velocity = {1.2, 0.6, 0.7};
+        List<Vector3f> server = serverTrajectory(start, velocity);
+
+        // The server's projectile hit something at tick 10, while ours kept flying
+        Vector3f position = Vector3f.from(start[0], start[1], start[2]);
+        Vector3f motion = Vector3f.from(velocity[0], velocity[1], velocity[2]);
+        for (int tick = 1; tick <= 13; tick++) {
+            position = position.add(motion);
+            motion = ThrowableEntity.nextMotion(motion, SNOWBALL_DRAG, SNOWBALL_GRAVITY);
+        }
+        assertFalse(ThrowableItemEntity.matchesSimulation(server.get(10), position, motion));
+    }
+
+    @Test
+    public void testDragBeforeGravity() {
+        Vector3f motion = ThrowableEntity.nextMotion(Vector3f.from(1, 1, 1), 0.5f, 0.25f);
+        assertEquals(Vector3f.from(0.5f, 0.25f, 0.5f), motion);
+    }
+
+    /**
+     * The position of a thrown item on the Java server for each tick, calculated in doubles as the server does.
+     */
+    private static List<Vector3f> serverTrajectory(double[] start, double[] velocity) {
+        double x = start[0], y = start[1], z = start[2];
+        double motionX = velocity[0], motionY = velocity[1], motionZ = velocity[2];
+        List<Vector3f> positions = new ArrayList<>();
+        positions.add(Vector3f.from(x, y, z));
+        for (int tick = 0; tick < FLIGHT_TICKS; tick++) {
+            x += motionX;
+            y += motionY;
+            z += motionZ;
+            motionX *= SNOWBALL_DRAG;
+            motionY = motionY * SNOWBALL_DRAG - SNOWBALL_GRAVITY;
+            motionZ *= SNOWBALL_DRAG;
+            positions.add(Vector3f.from(x, y, z));
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.block.type;
+
+import org.geysermc.geyser.level.block.property.Properties;
+import org.geysermc.geyser.level.block.property.Property;
+import org.geysermc.geyser.level.physics.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PropertyLayoutTest {
+    /**
+     * An arbitrary offset, so IDs relative to the block and absolute IDs can't be mixed up
+     */
+    private static final int FIRST_STATE_ID = 1000;
+    private static final List<Comparable<?>> BOOLEAN_VALUES = values(Boolean.TRUE, Boolean.FALSE);
+    private static final List<Comparable<?>> HORIZONTAL_FACING_VALUES = values(Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST);
+
+    @Test
+    public void testPiston() {
+        checkEveryTransition(new Property<?>[] {Properties.EXTENDED, Properties.FACING}, List.of(
+                BOOLEAN_VALUES,
+                values(Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST, Direction.UP, Direction.DOWN)));
+    }
+
+    @Test
+    public void testStairs() {
+        List<Comparable<?>> halfValues = Properties.HALF.values();
+        List<Comparable<?>> shapeValues = Properties.STAIRS_SHAPE.values();
+        checkEveryTransition(new Property<?>[] {Properties.HORIZONTAL_FACING, Properties.HALF, Properties.STAIRS_SHAPE, Properties.WATERLOGGED}, List.of(
+                HORIZONTAL_FACING_VALUES,
+                halfValues,
+                shapeValues,
+                BOOLEAN_VALUES));
+    }
+
+    @Test
+    public void testIntegerPropertyNotStartingAtZero() {
+        // Repeater delay goes from 1 to 4
+        checkEveryTransition(new Property<?>[] {Properties.DELAY, Properties.HORIZONTAL_FACING, Properties.LOCKED, Properties.POWERED}, List.of(
+                values(1, 2, 3, 4),
+                HORIZONTAL_FACING_VALUES,
+                BOOLEAN_VALUES,
+                BOOLEAN_VALUES));
+    }
+
+    @Test
+    public void testUnknownValue() {
+        PropertyLayout layout = new PropertyLayout(new Property<?>[] {Properties.DELAY}, List.of(values(1, 2, 3, 4)), FIRST_STATE_ID);
+        assertEquals(-1, layout.withValue(FIRST_STATE_ID, 0, 5));
+        assertEquals(-1, layout.index(Properties.POWERED));
+    }
+
+    /**
+     * Sets every property of every state to every possible value, and checks the result against
+     * a plain search through all states in the order Block.Builder creates them.
+     */
+    private static void checkEveryTransition(Property<?>[] keys, List<List<Comparable<?>>> values) {
+        List<List<Comparable<?>>> states = allStates(values);
+        PropertyLayout layout = new PropertyLayout(keys, values, FIRST_STATE_ID);
+
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, layout.index(keys[i]));
+        }
+
+        for (int stateIndex = 0; stateIndex < states.size(); stateIndex++) {
+            List<Comparable<?>> state = states.get(stateIndex);
+            for (int property = 0; property < keys.length; property++) {
+                for (Comparable<?> value : values.get(property)) {
+                    List<Comparable<?>> expected = new ArrayList<>(state);
+                    expected.set(property, value);
+                    int expectedId = FIRST_STATE_ID + states.indexOf(expected);
+
+                    assertEquals(expectedId, layout.withValue(FIRST_STATE_ID + stateIndex, property, value),
+                            state + " with " + keys[property].name() + "=" + value);
+                }
+            }
+        }
+    }
+
+    private static List<Comparable<?>> values(Comparable<?>... values) {
+        return List.of(values);
+    }
+
+    /**
+     * @return every combination of values, in the same order as Block.Builder - the last property cycles fastest
+     */
+    private static List<List<Comparable<?>>> allStates(List<List<Comparable<?>>> values) {
+        List<List<Comparable<?>>> states = new ArrayList<>();
+        states.add(List.of());
+        for (List<Comparable<?>> propertyValues : values) {
+            List<List<Comparable<?>>> next = new ArrayList<>();
+            for (List<Comparable<?>> previous : states) {
+                for (Comparable<?> value : propertyValues) {
+                    List<Comparable<?>> state = new ArrayList<>(previous);
+                    state.add(value);
+                    next.add(state);
+                }
+            }
+            states = next;
+        }
+        return states;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.physics;
+
+import org.cloudburstmc.math.vector.Vector3d;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Movement correction reuses scratch bounding boxes and reads single axes instead of building min/max vectors.
+ * These compare it against the cloning, vector-based way it used to be done.
+ */
+public class BoundingBoxTest {
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    public void testScratchBoxMatchesClone() {
+        Random random = new Random(31);
+        BoundingBox scratch = new BoundingBox(0, 0, 0, 0, 0, 0);
+        for (int i = 0; i < ITERATIONS; i++) {
+            BoundingBox box = randomBox(random);
+            Vector3d movement = randomMovement(random);
+
+            BoundingBox clone = box.clone();
+            clone.extend(movement);
+
+            // The scratch box still holds the previous iteration's state
+            scratch.copyFrom(box);
+            scratch.extend(movement.getX(), movement.getY(), movement.getZ());
+
+            assertEquals(clone, scratch);
+        }
+    }
+
+    @Test
+    public void testMaxOffsetMatchesVectorVersion() {
+        Random random = new Random(43);
+        for (int i = 0; i < ITERATIONS; i++) {
+            BoundingBox block = randomBox(random);
+            BoundingBox player = randomBox(random);
+            Vector3d blockOffset = randomMovement(random);
+            double offset = random.nextDouble() * 4 - 2;
+
+            for (Axis axis : Axis.VALUES) {
+                assertEquals(vectorMaxOffset(block, blockOffset, player, axis, offset),
+                        block.getMaxOffset(blockOffset.getX(), blockOffset.getY(), blockOffset.getZ(), player, axis, offset));
+            }
+        }
+    }
+
+    @Test
+    public void testIntersectionSizeMatchesVectorVersion() {
+        Random random = new Random(45);
+        for (int i = 0; i < ITERATIONS; i++) {
+            BoundingBox box = randomBox(random);
+            BoundingBox other = randomBox(random);
+            for (Direction side : Direction.VALUES) {
+                assertEquals(vectorIntersectionSize(box, other, side), box.getIntersectionSize(other, side));
+            }
+        }
+    }
+
+    @Test
+    public void testFallingOntoBlock() {
+        BoundingBox block = new BoundingBox(0.5, 0.5, 0.5, 1, 1, 1);
+        BoundingBox player = new BoundingBox(0.5, 2.0, 0.5, 0.6, 1.8, 0.6);
+
+        // Falling 0.5 blocks onto a block 0.1 below the player's feet
+        assertEquals(-0.1, block.getMaxOffset(0, 0, 0, player, Axis.Y, -0.5), 1.0E-9);
+        // Not under the player
+        assertEquals(-0.5, block.getMaxOffset(2, 0, 0, player, Axis.Y, -0.5));
+    }
+
+    private static double vectorMaxOffset(BoundingBox box, Vector3d boxOffset, BoundingBox other, Axis axis, double offset) {
+        for (Axis a : Axis.VALUES) {
+            if (a == axis) {
+                continue;
+            }
+            double size = a.choose(Vector3d.from(box.getSizeX(), box.getSizeY(), box.getSizeZ()))
+                    + a.choose(Vector3d.from(other.getSizeX(), other.getSizeY(), other.getSizeZ()));
+            double distance = a.choose(Vector3d.from(box.getMiddleX(), box.getMiddleY(), box.getMiddleZ()).add(boxOffset))
+                    - a.choose(Vector3d.from(other.getMiddleX(), other.getMiddleY(), other.getMiddleZ()));
+            if (size - Math.abs(distance) * 2 <= 1.0E-7) {
+                return offset;
+            }
+        }
+        if (offset > 0) {
+            double min = axis.choose(box.getMin().add(boxOffset));
+            double max = axis.choose(other.getMax());
+            if ((min - max) >= -2.0 * CollisionManager.COLLISION_TOLERANCE) {
+                offset = Math.min(min - max, offset);
+            }
+        } else if (offset < 0) {
+            double min = axis.choose(other.getMin());
+            double max = axis.choose(box.getMax().add(boxOffset));
+            if ((min - max) >= -2.0 * CollisionManager.COLLISION_TOLERANCE) {
+                offset = Math.max(max - min, offset);
+            }
+        }
+        return offset;
+    }
+
+    private static double vectorIntersectionSize(BoundingBox box, BoundingBox other, Direction side) {
+        return switch (side) {
+            case DOWN -> box.getMax().getY() - other.getMin().getY();
+            case UP -> other.getMax().getY() - box.getMin().getY();
+            case NORTH -> box.getMax().getZ() - other.getMin().getZ();
+            case SOUTH -> other.getMax().getZ() - box.getMin().getZ();
+            case WEST -> box.getMax().getX() - other.getMin().getX();
+            case EAST -> other.getMax().getX() - box.getMin().getX();
+        };
+    }
+
+    private static BoundingBox randomBox(Random random) {
+        return new BoundingBox(random.nextDouble() * 4 - 2, random.nextDouble() * 4 - 2, random.nextDouble() * 4 - 2,
+                random.nextDouble() * 2, random.nextDouble() * 2, random.nextDouble() * 2);
+    }
+
+    private static Vector3d randomMovement(Random random) {
+        return Vector3d.from(random.nextDouble() * 2 - 1, random.nextDouble() * 2 - 1, random.nextDouble() * 2 - 1);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PacketBundlerTest {
+
+    @Test
+    public void testHeldPacketsAreWrittenInOrder() {
+        List<List<String>> batches = new ArrayList<>();
+        PacketBundler<String> bundler = new PacketBundler<>(4096, held -> batches.add(List.copyOf(held)));
+
+        assertFalse(bundler.hold("before"), "Nothing is held before a bundle starts");
+
+        bundler.start(0);
+        assertTrue(bundler.hold("spawn"));
+        assertTrue(bundler.hold("metadata"));
+        assertTrue(bundler.hold("equipment"));
+        assertTrue(batches.isEmpty());
+
+        bundler.stop();
+        assertEquals(List.of(List.of("spawn", "metadata", "equipment")), batches);
+        assertFalse(bundler.hold("after"), "Nothing is held after a bundle ends");
+    }
+
+    @Test
+    public void testImmediatePacketDoesNotOvertake() {
+        List<List<String>> batches = new ArrayList<>();
+        PacketBundler<String> bundler = new PacketBundler<>(4096, held -> batches.add(List.copyOf(held)));
+
+        bundler.start(0);
+        bundler.hold("first");
+        assertTrue(bundler.holdAndWrite("immediate"));
+        bundler.hold("last");
+        bundler.stop();
+
+        assertEquals(List.of(List.of("first", "immediate"), List.of("last")), batches);
+    }
+
+    @Test
+    public void testWritesWhenFull() {
+        List<List<String>> batches = new ArrayList<>();
+        PacketBundler<String> bundler = new PacketBundler<>(2, held -> batches.add(List.copyOf(held)));
+
+        bundler.start(0);
+        bundler.hold("a");
+        bundler.hold("b");
+        bundler.hold("c");
+        bundler.stop();
+
+        assertEquals(List.of(List.of("a", "b"), List.of("c")), batches);
+    }
+
+    @Test
+    public void testOtherThreadsAreNotHeld() throws InterruptedException {
+        PacketBundler<String> bundler = new PacketBundler<>(4096, held -> fail("Nothing should be held"));
+        bundler.start(0);
+
+        boolean[] held = new boolean[1];
+        Thread other = new Thread(() -> held[0] = bundler.hold("other"));
+        other.start();
+        other.join();
+        assertFalse(held[0]);
+    }
+
+    @Test
+    public void testTimeout() {
+        PacketBundler<String> bundler = new PacketBundler<>(4096, held -> { });
+        assertFalse(bundler.isTimedOut(1000, 100), "Not holding anything");
+
+        bundler.start(1000);
+        assertFalse(bundler.isTimedOut(1100, 100));
+        assertTrue(bundler.isTimedOut(1101, 100));
+
+        bundler.stop();
+        assertFalse(bundler.isTimedOut(2000, 100));
+    }
+}
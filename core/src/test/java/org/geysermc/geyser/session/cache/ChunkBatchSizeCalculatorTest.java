@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkBatchSizeCalculatorTest {
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    public void testInitialRate() {
+        ChunkBatchSizeCalculator calculator = new ChunkBatchSizeCalculator();
+        // Same as vanilla: 7ms target / 2ms per chunk
+        assertEquals(3.5f, calculator.getDesiredChunksPerTick(), 0.001f);
+    }
+
+    @Test
+    public void testFastClientSpeedsUp() {
+        ChunkBatchSizeCalculator calculator = new ChunkBatchSizeCalculator();
+        float previous = calculator.getDesiredChunksPerTick();
+        for (int i = 0; i < 10; i++) {
+            runBatch(calculator, i, 50, 0.1 * MILLIS, false);
+            float current = calculator.getDesiredChunksPerTick();
+            assertTrue(current > previous, "Rate should keep increasing for a fast client");
+            previous = current;
+        }
+    }
+
+    @Test
+    public void testSlowClientSlowsDown() {
+        ChunkBatchSizeCalculator calculator = new ChunkBatchSizeCalculator();
+        for (int i = 0; i < 100; i++) {
+            runBatch(calculator, i, 10, 20 * MILLIS, false);
+        }
+        assertTrue(calculator.getDesiredChunksPerTick() < 0.5f);
+    }
+
+    @Test
+    public void testBacklogSlowsDown() {
+        ChunkBatchSizeCalculator free = new ChunkBatchSizeCalculator();
+        ChunkBatchSizeCalculator backlogged = new ChunkBatchSizeCalculator();
+        for (int i = 0; i < 20; i++) {
+            runBatch(free, i, 20, MILLIS, false);
+            runBatch(backlogged, i, 20, MILLIS, true);
+        }
+        assertTrue(backlogged.getDesiredChunksPerTick() < free.getDesiredChunksPerTick());
+    }
+
+    @Test
+    public void testSingleOutlierIsClamped() {
+        ChunkBatchSizeCalculator calculator = new ChunkBatchSizeCalculator();
+        float before = calculator.getDesiredChunksPerTick();
+        // One batch that took an entire second per chunk, e.g. after a GC pause
+        runBatch(calculator, 0, 1, 1000 * MILLIS, false);
+        // Can only move as far as three times the current estimate, averaged with the old sample
+        assertEquals(before / 2, calculator.getDesiredChunksPerTick(), 0.001f);
+    }
+
+    @Test
+    public void testStaysInServerBounds() {
+        ChunkBatchSizeCalculator calculator = new ChunkBatchSizeCalculator();
+        for (int i = 0; i < 500; i++) {
+            runBatch(calculator, i, 64, 1, false);
+        }
+        assertEquals(64f, calculator.getDesiredChunksPerTick());
+
+        for (int i = 0; i < 500; i++) {
+            runBatch(calculator, i, 1, 10_000 * MILLIS, true);
+        }
+        assertEquals(0.01f, calculator.getDesiredChunksPerTick());
+    }
+
+    @Test
+    public void testIgnoresEmptyOrUnstartedBatches() {
+        ChunkBatchSizeCalculator calculator = new ChunkBatchSizeCalculator();
+        float before = calculator.getDesiredChunksPerTick();
+
+        calculator.onBatchStart(0);
+        calculator.onBatchFinished(100 * MILLIS, 0, false);
+        assertEquals(before, calculator.getDesiredChunksPerTick());
+
+        // No start packet for this batch
+        calculator.onBatchFinished(200 * MILLIS, 10, false);
+        assertEquals(before, calculator.getDesiredChunksPerTick());
+    }
+
+    private static void runBatch(ChunkBatchSizeCalculator calculator, int batch, int size, double nanosPerChunk, boolean backlogged) {
+        long start = batch * 1000 * MILLIS;
+        calculator.onBatchStart(start);
+        calculator.onBatchFinished(start + (long) (nanosPerChunk * size), size, backlogged);
+    }
+}
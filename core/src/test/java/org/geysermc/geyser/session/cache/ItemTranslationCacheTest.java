@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponentType;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemTranslationCacheTest {
+    private static final int DIAMOND_SWORD = 853;
+
+    @Test
+    public void testEqualComponentsShareEntry() {
+        DataComponents first = new DataComponents(new HashMap<>());
+        first.put(DataComponentType.DAMAGE, 12);
+        first.put(DataComponentType.REPAIR_COST, 3);
+        first.put(DataComponentType.ENCHANTMENT_GLINT_OVERRIDE, true);
+
+        // Separate instances, added in a different order
+        DataComponents second = new DataComponents(new HashMap<>());
+        second.put(DataComponentType.ENCHANTMENT_GLINT_OVERRIDE, true);
+        second.put(DataComponentType.REPAIR_COST, 3);
+        second.put(DataComponentType.DAMAGE, 12);
+
+        ItemTranslationCache.CacheKey firstKey = ItemTranslationCache.key(DIAMOND_SWORD, first, "en_us", false);
+        ItemTranslationCache.CacheKey secondKey = ItemTranslationCache.key(DIAMOND_SWORD, second, "en_us", false);
+        assertEquals(firstKey, secondKey);
+        assertEquals(firstKey.hashCode(), secondKey.hashCode());
+    }
+
+    @Test
+    public void testKeyIsNotSharedWithStack() {
+        DataComponents components = new DataComponents(new HashMap<>());
+        components.put(DataComponentType.DAMAGE, 12);
+        ItemTranslationCache.CacheKey before = ItemTranslationCache.key(DIAMOND_SWORD, components, "en_us", false);
+
+        // Stacks can be edited in place after they were translated
+        components.put(DataComponentType.DAMAGE, 13);
+        ItemTranslationCache.CacheKey after = ItemTranslationCache.key(DIAMOND_SWORD, components, "en_us", false);
+        assertNotEquals(before, after);
+
+        components.put(DataComponentType.DAMAGE, 12);
+        assertEquals(before, ItemTranslationCache.key(DIAMOND_SWORD, components, "en_us", false));
+    }
+
+    @Test
+    public void testEmptyComponentsMatchNone() {
+        assertEquals(ItemTranslationCache.key(DIAMOND_SWORD, null, "en_us", false),
+                ItemTranslationCache.key(DIAMOND_SWORD, new DataComponents(new HashMap<>()), "en_us", false));
+    }
+
+    @Test
+    public void testSessionStateIsPartOfKey() {
+        assertNotEquals(ItemTranslationCache.key(DIAMOND_SWORD, null, "en_us", false),
+                ItemTranslationCache.key(DIAMOND_SWORD, null, "de_de", false));
+        assertNotEquals(ItemTranslationCache.key(DIAMOND_SWORD, null, "en_us", false),
+                ItemTranslationCache.key(DIAMOND_SWORD, null, "en_us", true));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.translator.protocol.java;
+
+import org.geysermc.mcprotocollib.protocol.data.game.command.CommandNode;
+import org.geysermc.mcprotocollib.protocol.data.game.command.CommandParser;
+import org.geysermc.mcprotocollib.protocol.data.game.command.CommandType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JavaCommandsTranslatorTest {
+
+    @Test
+    public void testIdenticalPacketsShareTranslation() {
+        // Every packet is decoded into new node instances, so the key has to compare them by value
+        JavaCommandsTranslator.TranslationKey first = key(nodes("team"));
+        JavaCommandsTranslator.TranslationKey second = key(nodes("team"));
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void testDifferentPacketsDoNotShareTranslation() {
+        assertNotEquals(key(nodes("team")), key(nodes("teammsg")));
+    }
+
+    private static JavaCommandsTranslator.TranslationKey key(CommandNode[] nodes) {
+        return new JavaCommandsTranslator.TranslationKey(null, Arrays.asList(nodes), 0, "en_us",
+                List.of("minecraft:overworld"), List.of("minecraft:sharpness"));
+    }
+
+    private static CommandNode[] nodes(String literal) {
+        return new CommandNode[] {
+                new CommandNode(CommandType.ROOT, false, new int[] {1}, OptionalInt.empty(), null, null, null, null),
+                new CommandNode(CommandType.LITERAL, false, new int[] {2}, OptionalInt.empty(), literal, null, null, null),
+                new CommandNode(CommandType.ARGUMENT, true, new int[0], OptionalInt.empty(), "team", CommandParser.TEAM, null, null)
+        };
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MathUtilsTest {
+
+    @Test
+    public void testBlockPositionRoundTrip() {
+        int[] horizontal = {-33554432, -30000000, -1, 0, 1, 15, 16, 30000000, 33554431};
+        int[] vertical = {-2048, -64, -1, 0, 1, 255, 319, 2047};
+        for (int x : horizontal) {
+            for (int y : vertical) {
+                for (int z : horizontal) {
+                    long packed = MathUtils.blockPositionToLong(x, y, z);
+                    assertEquals(x, MathUtils.unpackBlockX(packed));
+                    assertEquals(y, MathUtils.unpackBlockY(packed));
+                    assertEquals(z, MathUtils.unpackBlockZ(packed));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNeighboursAreDistinct() {
+        LongSet packed = new LongOpenHashSet();
+        for (int x = -2; x <= 2; x++) {
+            for (int y = -2; y <= 2; y++) {
+                for (int z = -2; z <= 2; z++) {
+                    assertTrue(packed.add(MathUtils.blockPositionToLong(x, y, z)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPushingBlockSet() {
+        // A slime block with a block stuck to each side, across an axis boundary, pushed west
+        List<int[]> structure = List.of(
+                new int[] {0, -1, -1}, new int[] {-1, -1, -1}, new int[] {1, -1, -1},
+                new int[] {0, 0, -1}, new int[] {0, -2, -1}, new int[] {0, -1, 0}, new int[] {0, -1, -2});
+        int moveX = -1, moveY = 0, moveZ = 0;
+
+        LongSet attached = new LongOpenHashSet();
+        for (int[] block : structure) {
+            attached.add(MathUtils.blockPositionToLong(block[0], block[1], block[2]));
+        }
+
+        Set<List<Integer>> pushed = new HashSet<>();
+        for (long position : attached) {
+            long moved = MathUtils.blockPositionToLong(MathUtils.unpackBlockX(position) + moveX,
+                    MathUtils.unpackBlockY(position) + moveY, MathUtils.unpackBlockZ(position) + moveZ);
+            pushed.add(List.of(MathUtils.unpackBlockX(moved), MathUtils.unpackBlockY(moved), MathUtils.unpackBlockZ(moved)));
+        }
+
+        Set<List<Integer>> expected = new HashSet<>();
+        for (int[] block : structure) {
+            expected.add(List.of(block[0] + moveX, block[1] + moveY, block[2] + moveZ));
+        }
+        assertEquals(expected, pushed);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cloudburstmc.protocol.bedrock.data.LevelEvent;
+import org.cloudburstmc.protocol.bedrock.data.SoundEvent;
+import org.geysermc.geyser.registry.type.SoundMapping;
+import org.geysermc.geyser.util.SoundUtils.ResolvedSound;
+import org.geysermc.geyser.util.SoundUtils.SoundType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Builtin sounds are resolved into a table ahead of time. These compare that against how each sound used to be
+ * resolved when it was played.
+ */
+public class SoundUtilsTest {
+    private static final ToIntFunction<String> BLOCK_IDS = String::length;
+
+    @Test
+    public void testEachKindOfMapping() {
+        assertMatchesPlayTimeResolution("entity.unmapped", null);
+        assertMatchesPlayTimeResolution("entity.player.levelup", new SoundMapping("entity.player.levelup", null, "random.levelup", -1, null, false));
+        assertMatchesPlayTimeResolution("block.dispenser.dispense", new SoundMapping("block.dispenser.dispense", "SOUND_CLICK", null, -1, null, true));
+        assertMatchesPlayTimeResolution("block.stone.place", new SoundMapping("block.stone.place", "PLACE", null, -1, "minecraft:stone", false));
+        assertMatchesPlayTimeResolution("block.note_block.harp", new SoundMapping("block.note_block.harp", "NOTE", null, 0, null, false));
+        assertMatchesPlayTimeResolution("block.unknown.place", new SoundMapping("block.unknown.place", "PLACE", null, -1, null, false));
+        assertMatchesPlayTimeResolution("ui.button.click", new SoundMapping("ui.button.click", "NOT_A_SOUND_EVENT", null, -1, null, false));
+        // Falls back to the Java identifier
+        assertMatchesPlayTimeResolution("hurt", new SoundMapping("hurt", "NOT_A_SOUND_EVENT", null, -1, null, false));
+    }
+
+    @Test
+    public void testUnknownLevelEvent() {
+        SoundMapping mapping = new SoundMapping("block.broken", "NOT_A_LEVEL_EVENT", null, -1, null, true);
+        ResolvedSound resolved = SoundUtils.resolve("block.broken", mapping, BLOCK_IDS);
+        // Used to throw when played; now it's reported once when the table is built
+        assertEquals(SoundType.NONE, resolved.type());
+        assertTrue(resolved.mapping().isLevelEvent());
+    }
+
+    @Test
+    public void testShippedMappings() throws IOException {
+        JsonNode sounds;
+        try (InputStream stream = SoundUtilsTest.class.getClassLoader().getResourceAsStream("mappings/sounds.json")) {
+            assertNotNull(stream, "Sound mappings are missing");
+            sounds = new ObjectMapper().readTree(stream);
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> iterator = sounds.fields();
+        while (iterator.hasNext()) {
+            Map.Entry<String, JsonNode> entry = iterator.next();
+            JsonNode node = entry.getValue();
+            SoundMapping mapping = new SoundMapping(entry.getKey(),
+                    node.path("bedrock_mapping").isTextual() ? node.get("bedrock_mapping").asText() : null,
+                    node.path("playsound_mapping").isTextual() ? node.get("playsound_mapping").asText() : null,
+                    node.path("extra_data").isInt() ? node.get("extra_data").asInt() : -1,
+                    node.path("identifier").isTextual() ? node.get("identifier").asText() : null,
+                    node.path("level_event").isBoolean() && node.get("level_event").asBoolean());
+            assertMatchesPlayTimeResolution(entry.getKey(), mapping);
+        }
+    }
+
+    private static void assertMatchesPlayTimeResolution(String identifier, SoundMapping mapping) {
+        assertEquals(playTimeResolution(identifier, mapping), SoundUtils.resolve(identifier, mapping, BLOCK_IDS), identifier);
+    }
+
+    /**
+     * How a sound used to be resolved each time it was played.
+     */
+    private static ResolvedSound playTimeResolution(String identifier, SoundMapping mapping) {
+        if (mapping == null) {
+            return new ResolvedSound(SoundType.CUSTOM, identifier, null, identifier, null, null, -1);
+        }
+        if (mapping.getPlaysound() != null) {
+            return new ResolvedSound(SoundType.PLAY_SOUND, identifier, mapping, mapping.getPlaysound(), null, null, -1);
+        }
+        if (mapping.isLevelEvent()) {
+            // Threw when played if the mapping was wrong, so every shipped level event has to exist
+            LevelEvent levelEvent = LevelEvent.valueOf(mapping.getBedrock());
+            return new ResolvedSound(SoundType.LEVEL_EVENT, identifier, mapping, null, levelEvent, null, -1);
+        }
+
+        SoundEvent sound = soundEvent(mapping.getBedrock());
+        if (sound == null) {
+            sound = soundEvent(identifier);
+        }
+        if (sound == null) {
+            return new ResolvedSound(SoundType.NONE, identifier, mapping, null, null, null, -1);
+        }
+        int placedBlock = -1;
+        if (sound == SoundEvent.PLACE && mapping.getExtraData() == -1 && !mapping.getIdentifier().equals(":")) {
+            placedBlock = BLOCK_IDS.applyAsInt(mapping.getIdentifier());
+        }
+        return new ResolvedSound(SoundType.LEVEL_SOUND, identifier, mapping, null, null, sound, placedBlock);
+    }
+
+    private static SoundEvent soundEvent(String sound) {
+        try {
+            return SoundEvent.valueOf(sound.toUpperCase(Locale.ROOT).replace(".", "_"));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}